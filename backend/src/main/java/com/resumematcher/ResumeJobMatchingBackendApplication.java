@@ -1,7 +1,11 @@
 package com.resumematcher;
 
+import com.resumematcher.service.EvaluationMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
 public class ResumeJobMatchingBackendApplication {
@@ -10,4 +14,14 @@ public class ResumeJobMatchingBackendApplication {
         SpringApplication.run(ResumeJobMatchingBackendApplication.class, args);
     }
 
+    @Bean
+    public MeterFilter evaluationDomainTagLimit(@Value("${evaluation.metrics.max-tag-values:50}") int maxTagValues) {
+        return EvaluationMetrics.tagLimit("domain", maxTagValues);
+    }
+
+    @Bean
+    public MeterFilter evaluationModelTagLimit(@Value("${evaluation.metrics.max-tag-values:50}") int maxTagValues) {
+        return EvaluationMetrics.tagLimit("model", maxTagValues);
+    }
+
 }
@@ -0,0 +1,77 @@
+package com.resumematcher.controller;
+
+import com.resumematcher.model.EvaluationTask;
+import com.resumematcher.service.EvaluationQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class EvaluationController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    @Autowired
+    private EvaluationQueue evaluationQueue;
+
+    @Value("${resume.upload.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    // Same form as the synchronous upload; answers 202 with the task to poll instead of the resume
+    @PostMapping(value = "/uploadResume", params = "async=true")
+    public ResponseEntity<EvaluationTask> uploadResumeAsync(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "jobText", required = false) String jobText,
+            @RequestParam(value = "domain", required = false) String domain,
+            @RequestParam(value = "jobId", required = false) String jobId) {
+
+        try {
+            if (file.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            if (file.getSize() > maxFileSize.toBytes()) {
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+            }
+
+            EvaluationTask task = evaluationQueue.submit(file, jobText, domain, jobId);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/evaluations/" + task.getId()))
+                .body(task);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/evaluations/{id}")
+    public ResponseEntity<EvaluationTask> getEvaluation(@PathVariable String id) {
+        return evaluationQueue.getTask(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/evaluations/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvaluation(@PathVariable String id) {
+        return evaluationQueue.subscribe(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
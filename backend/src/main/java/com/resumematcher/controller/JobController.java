@@ -1,13 +1,18 @@
 package com.resumematcher.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumematcher.dto.CursorPage;
+import com.resumematcher.dto.EmbeddingBackfillResult;
+import com.resumematcher.dto.JobSearchPage;
+import com.resumematcher.dto.JobSummary;
 import com.resumematcher.model.Job;
 import com.resumematcher.service.JobService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -15,9 +20,14 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class JobController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/jobs")
     public ResponseEntity<Job> createJob(@RequestBody Job job) {
         try {
@@ -28,10 +38,54 @@ public class JobController {
         }
     }
 
+    @PutMapping("/jobs/{id}")
+    public ResponseEntity<Job> updateJob(@PathVariable String id, @RequestBody Job job) {
+        try {
+            return jobService.updateJob(id, job)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Without cursor or limit the listing keeps its original shape, a JSON array, streamed off the cursor
+    @GetMapping(value = "/jobs", params = {"!cursor", "!limit", "!format"})
+    public ResponseEntity<StreamingResponseBody> getAllJobs() {
+        return NdjsonResponses.array(objectMapper, () -> jobService.streamJobs(null));
+    }
+
     @GetMapping("/jobs")
-    public ResponseEntity<List<Job>> getAllJobs() {
-        List<Job> jobs = jobService.getAllJobs();
-        return ResponseEntity.ok(jobs);
+    public ResponseEntity<CursorPage<Job>> getJobs(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return getJobPage(null, cursor, limit);
+    }
+
+    @GetMapping(value = "/jobs", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamJobs() {
+        return NdjsonResponses.stream(objectMapper, () -> jobService.streamJobs(null));
+    }
+
+    @GetMapping("/jobs/summaries")
+    public ResponseEntity<CursorPage<JobSummary>> getJobSummaries(
+            @RequestParam(value = "domain", required = false) String domain,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(jobService.getJobSummaryPage(domain, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/jobs/summaries", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamJobSummaries(
+            @RequestParam(value = "domain", required = false) String domain) {
+        return NdjsonResponses.stream(objectMapper, () -> jobService.streamJobSummaries(domain));
     }
 
     @GetMapping("/jobs/{id}")
@@ -41,16 +95,46 @@ public class JobController {
                  .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping(value = "/jobs/domain/{domain}", params = {"!cursor", "!limit", "!format"})
+    public ResponseEntity<StreamingResponseBody> getAllJobsByDomain(@PathVariable String domain) {
+        return NdjsonResponses.array(objectMapper, () -> jobService.streamJobs(domain));
+    }
+
     @GetMapping("/jobs/domain/{domain}")
-    public ResponseEntity<List<Job>> getJobsByDomain(@PathVariable String domain) {
-        List<Job> jobs = jobService.getJobsByDomain(domain);
-        return ResponseEntity.ok(jobs);
+    public ResponseEntity<CursorPage<Job>> getJobsByDomain(
+            @PathVariable String domain,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return getJobPage(domain, cursor, limit);
     }
 
+    @GetMapping(value = "/jobs/domain/{domain}", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamJobsByDomain(@PathVariable String domain) {
+        return NdjsonResponses.stream(objectMapper, () -> jobService.streamJobs(domain));
+    }
+
+    // q is matched against title, required skills and job text; title is the older parameter name
     @GetMapping("/jobs/search")
-    public ResponseEntity<List<Job>> searchJobs(@RequestParam String title) {
-        List<Job> jobs = jobService.searchJobsByTitle(title);
-        return ResponseEntity.ok(jobs);
+    public ResponseEntity<JobSearchPage> searchJobs(@RequestParam(required = false) String q,
+                                                    @RequestParam(required = false) String title,
+                                                    @RequestParam(required = false) String domain,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        String query = q != null ? q : title;
+        if (query == null || query.isBlank() || page < 0 || size < 1 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(jobService.searchJobs(query, domain, page, size));
+    }
+
+    // Embeds jobs stored before embeddings were precomputed; safe to re-run
+    @PostMapping("/jobs/embeddings/backfill")
+    public ResponseEntity<EmbeddingBackfillResult> backfillEmbeddings() {
+        try {
+            return ResponseEntity.ok(jobService.backfillEmbeddings());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
     }
 
     @DeleteMapping("/jobs/{id}")
@@ -62,4 +146,15 @@ public class JobController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    private ResponseEntity<CursorPage<Job>> getJobPage(String domain, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(jobService.getJobPage(domain, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
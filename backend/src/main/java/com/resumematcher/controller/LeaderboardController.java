@@ -0,0 +1,35 @@
+package com.resumematcher.controller;
+
+import com.resumematcher.dto.CursorPage;
+import com.resumematcher.dto.ResumeSummary;
+import com.resumematcher.service.Leaderboard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class LeaderboardController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private Leaderboard leaderboard;
+
+    @GetMapping("/leaderboard")
+    public ResponseEntity<CursorPage<ResumeSummary>> getLeaderboard(
+            @RequestParam(value = "domain", required = false) String domain,
+            @RequestParam(value = "jobId", required = false) String jobId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(leaderboard.page(domain, jobId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.resumematcher.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Newline-delimited JSON: one document per line, written as it comes off the Mongo cursor so
+// neither the backend nor the client has to hold the whole collection. array() writes the same
+// cursor as one JSON array, for clients of the unpaged listings.
+final class NdjsonResponses {
+
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int FLUSH_EVERY = 100;
+
+    private NdjsonResponses() {
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper, Supplier<Stream<T>> documents) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+            .body(body(objectMapper, documents, false));
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> array(ObjectMapper objectMapper, Supplier<Stream<T>> documents) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body(objectMapper, documents, true));
+    }
+
+    private static <T> StreamingResponseBody body(ObjectMapper objectMapper, Supplier<Stream<T>> documents,
+                                                  boolean asArray) {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return output -> {
+            OutputStream out = new BufferedOutputStream(output, 1 << 16);
+            if (asArray) {
+                out.write('[');
+            }
+            // The cursor is opened on the streaming thread and closed even if the client disconnects
+            try (Stream<T> stream = documents.get()) {
+                Iterator<T> iterator = stream.iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    if (asArray && written > 0) {
+                        out.write(',');
+                    }
+                    writer.writeValue(out, iterator.next());
+                    if (!asArray) {
+                        out.write('\n');
+                    }
+                    if (++written % FLUSH_EVERY == 0) {
+                        out.flush();
+                    }
+                }
+            }
+            if (asArray) {
+                out.write(']');
+            }
+            out.flush();
+        };
+    }
+}
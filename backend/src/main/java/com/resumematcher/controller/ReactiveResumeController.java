@@ -0,0 +1,61 @@
+package com.resumematcher.controller;
+
+import com.resumematcher.model.Resume;
+import com.resumematcher.service.ResumeService;
+import com.resumematcher.service.ml.MLServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/reactive")
+@CrossOrigin(origins = "*")
+public class ReactiveResumeController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Value("${resume.upload.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    @PostMapping("/uploadResume")
+    public Mono<ResponseEntity<Resume>> uploadResume(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "jobText", required = false) String jobText,
+            @RequestParam(value = "domain", required = false) String domain,
+            @RequestParam(value = "jobId", required = false) String jobId) {
+
+        if (file.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        if (file.getSize() > maxFileSize.toBytes()) {
+            return Mono.just(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+        }
+
+        return resumeService.uploadAndEvaluateResumeReactive(file, jobText, domain, jobId)
+            .map(ResponseEntity::ok)
+            .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()))
+            .onErrorResume(MLServiceUnavailableException.class, e -> Mono.just(
+                ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build()))
+            .onErrorResume(RejectedExecutionException.class, e -> Mono.just(
+                ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build()))
+            .onErrorReturn(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+    }
+
+    @GetMapping("/resumes/{id}")
+    public Mono<ResponseEntity<Resume>> getResume(@PathVariable String id) {
+        return resumeService.getResumeByIdReactive(id)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -1,38 +1,109 @@
 package com.resumematcher.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumematcher.dto.BatchUploadItem;
+import com.resumematcher.dto.CursorPage;
+import com.resumematcher.dto.JobMatch;
+import com.resumematcher.dto.ResumeSummary;
 import com.resumematcher.model.Resume;
+import com.resumematcher.service.JobMatchingService;
 import com.resumematcher.service.ResumeService;
+import com.resumematcher.service.ml.MLServiceUnavailableException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
 public class ResumeController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String RETRY_AFTER_SECONDS = "5";
+
     @Autowired
     private ResumeService resumeService;
 
+    @Autowired
+    private JobMatchingService jobMatchingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${resume.upload.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    // jobText and domain may be left out when jobId references a stored job
     @PostMapping("/uploadResume")
     public ResponseEntity<Resume> uploadResume(
             @RequestParam("file") MultipartFile file,
-            @RequestParam("jobText") String jobText,
-            @RequestParam("domain") String domain) {
+            @RequestParam(value = "jobText", required = false) String jobText,
+            @RequestParam(value = "domain", required = false) String domain,
+            @RequestParam(value = "jobId", required = false) String jobId) {
         
         try {
             if (file.isEmpty()) {
                 return ResponseEntity.badRequest().build();
             }
+            if (file.getSize() > maxFileSize.toBytes()) {
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+            }
 
-            Resume resume = resumeService.uploadAndEvaluateResume(file, jobText, domain);
+            Resume resume = resumeService.uploadAndEvaluateResume(file, jobText, domain, jobId);
             return ResponseEntity.ok(resume);
             
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (MLServiceUnavailableException e) {
+            // Circuit open or concurrency limit reached, with degraded scoring turned off
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+        } catch (RejectedExecutionException e) {
+            // Text extraction pool is saturated
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/uploadResumes")
+    public ResponseEntity<List<BatchUploadItem>> uploadResumes(
+            @RequestParam("files") List<MultipartFile> files,
+            @RequestParam(value = "jobText", required = false) String jobText,
+            @RequestParam(value = "domain", required = false) String domain,
+            @RequestParam(value = "jobId", required = false) String jobId) {
+
+        try {
+            if (files.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            List<BatchUploadItem> results = resumeService.uploadAndEvaluateResumes(files, jobText, domain, jobId);
+            return ResponseEntity.ok(results);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (MLServiceUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -45,15 +116,88 @@ public class ResumeController {
                     .orElse(ResponseEntity.notFound().build());
     }
 
+    // Without cursor or limit the listing keeps its original shape, a JSON array, streamed off the cursor
+    @GetMapping(value = "/resumes", params = {"!cursor", "!limit", "!format"})
+    public ResponseEntity<StreamingResponseBody> getAllResumes() {
+        return NdjsonResponses.array(objectMapper, () -> resumeService.streamResumes(null));
+    }
+
+    @GetMapping(value = "/resumes/domain/{domain}", params = {"!cursor", "!limit", "!format"})
+    public ResponseEntity<StreamingResponseBody> getAllResumesByDomain(@PathVariable String domain) {
+        return NdjsonResponses.array(objectMapper, () -> resumeService.streamResumes(domain));
+    }
+
     @GetMapping("/resumes")
-    public ResponseEntity<List<Resume>> getAllResumes() {
-        List<Resume> resumes = resumeService.getAllResumes();
-        return ResponseEntity.ok(resumes);
+    public ResponseEntity<CursorPage<Resume>> getResumes(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return getResumePage(null, cursor, limit);
     }
 
     @GetMapping("/resumes/domain/{domain}")
-    public ResponseEntity<List<Resume>> getResumesByDomain(@PathVariable String domain) {
-        List<Resume> resumes = resumeService.getResumesByDomain(domain);
-        return ResponseEntity.ok(resumes);
+    public ResponseEntity<CursorPage<Resume>> getResumesByDomain(
+            @PathVariable String domain,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return getResumePage(domain, cursor, limit);
+    }
+
+    @GetMapping(value = "/resumes", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamResumes() {
+        return NdjsonResponses.stream(objectMapper, () -> resumeService.streamResumes(null));
+    }
+
+    @GetMapping(value = "/resumes/domain/{domain}", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamResumesByDomain(@PathVariable String domain) {
+        return NdjsonResponses.stream(objectMapper, () -> resumeService.streamResumes(domain));
+    }
+
+    @GetMapping(value = "/resumes/{id}/text", produces = "text/plain;charset=UTF-8")
+    public ResponseEntity<String> getResumeText(@PathVariable String id) {
+        return resumeService.getResumeText(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/resumes/summaries")
+    public ResponseEntity<CursorPage<ResumeSummary>> getResumeSummaries(
+            @RequestParam(value = "domain", required = false) String domain,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(resumeService.getResumeSummaryPage(domain, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/resumes/summaries", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamResumeSummaries(
+            @RequestParam(value = "domain", required = false) String domain) {
+        return NdjsonResponses.stream(objectMapper, () -> resumeService.streamResumeSummaries(domain));
+    }
+
+    @GetMapping("/resumes/{id}/matches")
+    public ResponseEntity<List<JobMatch>> getBestJobs(
+            @PathVariable String id,
+            @RequestParam(value = "k", defaultValue = "10") int k,
+            @RequestParam(value = "domain", required = false) String domain) {
+        return jobMatchingService.findBestJobs(id, k, domain)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<CursorPage<Resume>> getResumePage(String domain, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(resumeService.getResumePage(domain, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
@@ -0,0 +1,20 @@
+package com.resumematcher.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.resumematcher.model.Resume;
+
+// Outcome of one file (or zip entry) of a batch upload; a skipped file carries the reason
+// instead of a resume
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchUploadItem(String fileName, Status status, Resume resume, String error) {
+
+    public enum Status { EVALUATED, SKIPPED }
+
+    public static BatchUploadItem evaluated(Resume resume) {
+        return new BatchUploadItem(resume.getFileName(), Status.EVALUATED, resume, null);
+    }
+
+    public static BatchUploadItem skipped(String fileName, String error) {
+        return new BatchUploadItem(fileName, Status.SKIPPED, null, error);
+    }
+}
@@ -0,0 +1,7 @@
+package com.resumematcher.dto;
+
+import java.util.List;
+
+// One keyset page, newest first; nextCursor is null on the last page
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,4 @@
+package com.resumematcher.dto;
+
+public record EmbeddingBackfillResult(long updated, long failed) {
+}
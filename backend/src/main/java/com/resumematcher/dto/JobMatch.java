@@ -0,0 +1,15 @@
+package com.resumematcher.dto;
+
+import java.util.List;
+
+public record JobMatch(
+        String jobId,
+        String title,
+        String company,
+        String location,
+        String domain,
+        double score,
+        double similarity,
+        double skillMatchRatio,
+        List<String> matchedSkills) {
+}
@@ -0,0 +1,10 @@
+package com.resumematcher.dto;
+
+import com.resumematcher.model.Job;
+
+import java.util.List;
+
+public record JobSearchPage(String query, String domain, int page, int size, long total, List<Hit> results) {
+
+    public record Hit(Job job, double score) {}
+}
@@ -0,0 +1,22 @@
+package com.resumematcher.dto;
+
+import com.resumematcher.model.Job;
+
+import java.time.LocalDateTime;
+
+// List-screen view of a job; FIELDS is the Mongo projection that backs it (no jobText or embeddings)
+public record JobSummary(
+        String id,
+        String title,
+        String company,
+        String location,
+        String domain,
+        LocalDateTime createdAt) {
+
+    public static final String[] FIELDS = {"title", "company", "location", "domain", "createdAt"};
+
+    public static JobSummary from(Job job) {
+        return new JobSummary(job.getId(), job.getTitle(), job.getCompany(), job.getLocation(), job.getDomain(),
+            job.getCreatedAt());
+    }
+}
@@ -0,0 +1,29 @@
+package com.resumematcher.dto;
+
+import com.resumematcher.model.Resume;
+
+import java.time.LocalDateTime;
+
+// List-screen view of a resume; FIELDS is the Mongo projection that backs it, so rawText,
+// parsed entities and score maps are never read from disk
+public record ResumeSummary(
+        String id,
+        String fileName,
+        String domain,
+        String jobId,
+        LocalDateTime createdAt,
+        Double finalScore,
+        String recommendation) {
+
+    public static final String[] FIELDS = {
+        "fileName", "domain", "jobId", "createdAt", "evaluationResult.finalScore", "evaluationResult.recommendation"
+    };
+
+    public static ResumeSummary from(Resume resume) {
+        Resume.EvaluationResult result = resume.getEvaluationResult();
+        return new ResumeSummary(resume.getId(), resume.getFileName(), resume.getDomain(), resume.getJobId(),
+            resume.getCreatedAt(),
+            result != null ? result.getFinalScore() : null,
+            result != null ? result.getRecommendation() : null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.resumematcher.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+
+// An upload accepted for asynchronous evaluation; the file stays in GridFS until a worker is done with it
+@Document(collection = "evaluation_tasks")
+public class EvaluationTask {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isTerminal() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    @Id
+    private String id;
+    private Status status;
+    private String fileName;
+    private String domain;
+    private String jobId;
+    @JsonIgnore
+    private String jobText;
+    @JsonIgnore
+    private String uploadRef; // GridFS id of the uploaded file
+    private int attempts;
+    private String resumeId; // Set once the evaluated resume is saved
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public EvaluationTask() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = createdAt;
+        this.status = Status.QUEUED;
+    }
+
+    public EvaluationTask(String fileName, String jobText, String domain, String jobId, String uploadRef) {
+        this();
+        this.fileName = fileName;
+        this.jobText = jobText;
+        this.domain = domain;
+        this.jobId = jobId;
+        this.uploadRef = uploadRef;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public void setDomain(String domain) {
+        this.domain = domain;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobText() {
+        return jobText;
+    }
+
+    public void setJobText(String jobText) {
+        this.jobText = jobText;
+    }
+
+    public String getUploadRef() {
+        return uploadRef;
+    }
+
+    public void setUploadRef(String uploadRef) {
+        this.uploadRef = uploadRef;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(String resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
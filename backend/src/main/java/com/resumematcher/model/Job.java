@@ -1,5 +1,6 @@
 package com.resumematcher.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
@@ -13,8 +14,11 @@ public class Job {
     private String jobText;
     private List<String> requiredSkills;
     private String domain;
-    private Map<String, List<Double>> jobEmbeddings; // Model name -> embedding vector
+    private Map<String, List<Double>> jobEmbeddings; // Model name -> embedding vector (legacy, uncompressed)
+    @JsonIgnore
+    private Map<String, byte[]> embeddingVectors; // Model name -> little-endian float32 embedding
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt; // Set by updates and embedding backfills; null until then
     private String title;
     private String company;
     private String location;
@@ -72,6 +76,14 @@ public class Job {
         this.jobEmbeddings = jobEmbeddings;
     }
 
+    public Map<String, byte[]> getEmbeddingVectors() {
+        return embeddingVectors;
+    }
+
+    public void setEmbeddingVectors(Map<String, byte[]> embeddingVectors) {
+        this.embeddingVectors = embeddingVectors;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -80,6 +92,14 @@ public class Job {
         this.createdAt = createdAt;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -11,11 +11,13 @@ public class Resume {
     @Id
     private String id;
     private String fileName;
-    private String rawText;
+    private String rawText; // Only set in memory and on legacy documents; stored text lives in the blob store
+    private String rawTextRef; // Content hash of the text in the blob store
     private ParsedEntities parsedEntities;
     private EvaluationResult evaluationResult;
     private LocalDateTime createdAt;
     private String domain;
+    private String jobId; // Stored job the resume was evaluated against, if any
 
     // Constructors
     public Resume() {
@@ -54,6 +56,14 @@ public class Resume {
         this.rawText = rawText;
     }
 
+    public String getRawTextRef() {
+        return rawTextRef;
+    }
+
+    public void setRawTextRef(String rawTextRef) {
+        this.rawTextRef = rawTextRef;
+    }
+
     public ParsedEntities getParsedEntities() {
         return parsedEntities;
     }
@@ -86,6 +96,14 @@ public class Resume {
         this.domain = domain;
     }
 
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
     // Inner classes
     public static class ParsedEntities {
         private List<String> skills;
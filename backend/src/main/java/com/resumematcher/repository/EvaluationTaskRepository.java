@@ -0,0 +1,12 @@
+package com.resumematcher.repository;
+
+import com.resumematcher.model.EvaluationTask;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EvaluationTaskRepository extends MongoRepository<EvaluationTask, String> {
+    List<EvaluationTask> findByStatusIn(Collection<EvaluationTask.Status> statuses);
+}
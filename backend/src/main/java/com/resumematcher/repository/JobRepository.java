@@ -2,11 +2,23 @@ package com.resumematcher.repository;
 
 import com.resumematcher.model.Job;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends MongoRepository<Job, String> {
     List<Job> findByDomain(String domain);
     List<Job> findByTitleContainingIgnoreCase(String title);
+    List<Job> findByCreatedAtGreaterThanEqualOrUpdatedAtGreaterThanEqual(LocalDateTime createdAt,
+                                                                        LocalDateTime updatedAt);
+
+    // Ids only, for reconciling in-memory indexes against deletes
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    List<Job> findAllIds();
+
+    // Jobs still missing compact embeddings, streamed with a cursor
+    Stream<Job> findByEmbeddingVectorsIsNull();
 }
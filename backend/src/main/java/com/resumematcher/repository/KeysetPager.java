@@ -0,0 +1,83 @@
+package com.resumematcher.repository;
+
+import com.resumematcher.dto.CursorPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Keyset pagination over (createdAt desc, _id desc), served by the {createdAt, _id} and
+// {domain, createdAt, _id} compound indexes (see sample_data/init-mongo.js), so Mongo walks the
+// index instead of sorting in memory. Unlike skip/limit, every page costs the same no matter how
+// deep the client has paged.
+@Repository
+public class KeysetPager {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // fields optionally restricts the documents to a projection (createdAt must be part of it)
+    public <T> CursorPage<T> page(Class<T> type, String domain, String cursor, int limit,
+                                  Function<T, LocalDateTime> createdAt, Function<T, String> id, String... fields) {
+        Query query = new Query(criteria(domain, cursor)).with(NEWEST_FIRST).limit(limit + 1);
+        query.fields().include(fields);
+        List<T> items = mongoTemplate.find(query, type);
+        if (items.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        items = items.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new CursorPage<>(items, encodeCursor(createdAt.apply(last), id.apply(last)));
+    }
+
+    // Documents straight off the Mongo cursor; the caller must close the stream
+    public <T> Stream<T> stream(Class<T> type, String domain, String... fields) {
+        Query query = new Query(criteria(domain, null)).with(NEWEST_FIRST).cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include(fields);
+        return mongoTemplate.stream(query, type);
+    }
+
+    private static Criteria criteria(String domain, String cursor) {
+        Criteria criteria = domain != null ? Criteria.where("domain").is(domain) : new Criteria();
+        if (cursor == null) {
+            return criteria;
+        }
+        String[] key = decodeCursor(cursor);
+        LocalDateTime createdAt = LocalDateTime.parse(key[0]);
+        Criteria after = new Criteria().orOperator(
+            Criteria.where("createdAt").lt(createdAt),
+            Criteria.where("createdAt").is(createdAt).and("id").lt(key[1]));
+        return domain != null ? new Criteria().andOperator(criteria, after) : after;
+    }
+
+    static String encodeCursor(LocalDateTime createdAt, String id) {
+        String key = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = key.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            LocalDateTime.parse(parts[0]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
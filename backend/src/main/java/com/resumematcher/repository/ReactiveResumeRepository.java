@@ -0,0 +1,11 @@
+package com.resumematcher.repository;
+
+import com.resumematcher.model.Resume;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveResumeRepository extends ReactiveMongoRepository<Resume, String> {
+    Flux<Resume> findByDomain(String domain);
+}
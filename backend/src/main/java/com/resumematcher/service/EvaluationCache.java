@@ -0,0 +1,112 @@
+package com.resumematcher.service;
+
+import com.resumematcher.service.ml.MLEvaluationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class EvaluationCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final String modelVersion;
+    private final String scoringMode;
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public EvaluationCache(@Value("${evaluation.cache.enabled:true}") boolean enabled,
+                           @Value("${evaluation.cache.max-size:10000}") int maxSize,
+                           @Value("${evaluation.cache.ttl:24h}") Duration ttl,
+                           @Value("${ml.service.model-version:v1}") String modelVersion,
+                           @Value("${scoring.mode:remote}") String scoringMode,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.modelVersion = modelVersion;
+        this.scoringMode = scoringMode;
+
+        // Access-ordered map gives us LRU eviction once maxSize is exceeded
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > EvaluationCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hits = Counter.builder("evaluation.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("evaluation.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("evaluation.cache.evictions").register(meterRegistry);
+        Gauge.builder("evaluation.cache.size", this, EvaluationCache::size).register(meterRegistry);
+    }
+
+    public String key(String resumeText, String jobText, String domain) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // Local and remote scoring produce different results for the same input
+            for (String part : new String[]{resumeText, jobText, domain, modelVersion, scoringMode}) {
+                byte[] bytes = part == null ? new byte[0] : part.getBytes(StandardCharsets.UTF_8);
+                // Length-prefix each part so ("ab", "c") and ("a", "bc") hash differently
+                digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) ':');
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public synchronized MLEvaluationResponse get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public synchronized void put(String key, MLEvaluationResponse value) {
+        if (enabled && value != null) {
+            entries.put(key, new Entry(value, System.nanoTime()));
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(MLEvaluationResponse value, long createdAt) {}
+}
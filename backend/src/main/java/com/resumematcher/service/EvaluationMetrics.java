@@ -0,0 +1,114 @@
+package com.resumematcher.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+// Meters for the evaluation pipeline, all tagged by domain and model so a slow upload can be
+// attributed to extraction, the ML service or Mongo:
+//   evaluation.stage{stage=extract|encode|ml|parse|save|total} timers with p50/p95/p99
+//   evaluation.payload{part=resume|job|embeddings} request sizes in bytes
+//   evaluation.results{source=ml|cache|degraded} and evaluation.ml.errors{exception} counters
+// Domain and model come from clients, so each is capped to a bounded number of tag values by the
+// tagLimit filters, registered as beans so they apply before the first meter is created.
+@Component
+public class EvaluationMetrics {
+
+    public static final String STAGE_EXTRACT = "extract";
+    public static final String STAGE_ENCODE = "encode";
+    public static final String STAGE_ML = "ml";
+    public static final String STAGE_PARSE = "parse";
+    public static final String STAGE_SAVE = "save";
+    public static final String STAGE_TOTAL = "total";
+
+    // Stages that run before the ML service has picked a model
+    public static final String NO_MODEL = "none";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+
+    public EvaluationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Drops evaluation.* meters carrying a value of the tag beyond the first maxTagValues seen
+    public static MeterFilter tagLimit(String tag, int maxTagValues) {
+        return MeterFilter.maximumAllowableTags("evaluation", tag, maxTagValues, MeterFilter.deny());
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String stage, String domain, String model) {
+        sample.stop(Timer.builder("evaluation.stage")
+            .tags(tags(domain, model).and("stage", stage))
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry));
+    }
+
+    public <T> T time(String stage, String domain, String model, Supplier<T> work) {
+        Timer.Sample sample = start();
+        try {
+            return work.get();
+        } finally {
+            stop(sample, stage, domain, model);
+        }
+    }
+
+    public void recordPayload(String part, String domain, long bytes) {
+        DistributionSummary.builder("evaluation.payload")
+            .baseUnit("bytes")
+            .tags(tags(domain, NO_MODEL).and("part", part))
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry)
+            .record(bytes);
+    }
+
+    public void countResult(String source, String domain, String model) {
+        Counter.builder("evaluation.results")
+            .tags(tags(domain, model).and("source", source))
+            .register(registry)
+            .increment();
+    }
+
+    public void countMlError(String domain, Throwable error) {
+        Counter.builder("evaluation.ml.errors")
+            .tags(tags(domain, NO_MODEL).and("exception", error.getClass().getSimpleName()))
+            .register(registry)
+            .increment();
+    }
+
+    // UTF-8 size without encoding the string
+    public static long utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static Tags tags(String domain, String model) {
+        return Tags.of("domain", domain != null ? domain : UNKNOWN, "model", model != null ? model : UNKNOWN);
+    }
+}
@@ -0,0 +1,271 @@
+package com.resumematcher.service;
+
+import com.resumematcher.model.EvaluationTask;
+import com.resumematcher.model.Resume;
+import com.resumematcher.repository.EvaluationTaskRepository;
+import com.resumematcher.service.ml.MLCallGuard;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+// Asynchronous resume evaluation. Uploads are stored in GridFS and tracked in Mongo, then evaluated
+// by a fixed pool of workers fed from a bounded queue; when the queue is full, submit() rejects so
+// the caller can answer 429 instead of piling up request threads. Failed evaluations are retried
+// with exponential backoff, and tasks left unfinished by a shutdown are re-queued on startup.
+@Component
+public class EvaluationQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvaluationQueue.class);
+
+    @Autowired
+    private EvaluationTaskRepository taskRepository;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private GridFsTemplate gridFsTemplate;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Value("${evaluation.queue.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${evaluation.queue.retry-backoff:2s}")
+    private Duration retryBackoff;
+
+    @Value("${evaluation.queue.sse-timeout:5m}")
+    private Duration sseTimeout;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public EvaluationQueue(@Value("${evaluation.queue.workers:4}") int workerCount,
+                           @Value("${evaluation.queue.capacity:200}") int capacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacity),
+            runnable -> new Thread(runnable, "evaluation-worker-" + threadNumber.incrementAndGet()),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "evaluation-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Throws RejectedExecutionException when the queue is full, IllegalArgumentException when the job is unknown
+    public EvaluationTask submit(MultipartFile file, String jobText, String domain, String jobId) throws IOException {
+        // Checked up front: a task that can never succeed should not be accepted
+        if (!StringUtils.hasText(jobText) && (jobId == null || jobCache.get(jobId).isEmpty())) {
+            throw new IllegalArgumentException(jobId == null ? "Either jobText or jobId is required" : "Unknown job: " + jobId);
+        }
+        if (jobId == null && !StringUtils.hasText(domain)) {
+            throw new IllegalArgumentException("domain is required unless jobId is given");
+        }
+        // Cheap early check so a saturated queue does not cost a GridFS write
+        if (workers.getQueue().remainingCapacity() == 0) {
+            throw new RejectedExecutionException("Evaluation queue is full");
+        }
+
+        ObjectId upload;
+        try (InputStream in = file.getInputStream()) {
+            upload = gridFsTemplate.store(in, file.getOriginalFilename(), file.getContentType(),
+                new Document("kind", "evaluation-upload"));
+        }
+        EvaluationTask task = taskRepository.save(
+            new EvaluationTask(file.getOriginalFilename(), jobText, domain, jobId, upload.toHexString()));
+
+        try {
+            workers.execute(() -> process(task.getId()));
+        } catch (RejectedExecutionException e) {
+            // Lost the race for the last slot; nothing was accepted
+            taskRepository.delete(task);
+            deleteUpload(task.getUploadRef());
+            throw e;
+        }
+        return task;
+    }
+
+    public Optional<EvaluationTask> getTask(String id) {
+        return taskRepository.findById(id);
+    }
+
+    // Streams status changes of one task; the emitter completes once the task is completed or failed
+    public Optional<SseEmitter> subscribe(String id) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        // Registered before reading the task so no transition is missed in between
+        subscribers.compute(id, (key, emitters) -> {
+            List<SseEmitter> list = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+        emitter.onCompletion(() -> unsubscribe(id, emitter));
+        emitter.onTimeout(() -> unsubscribe(id, emitter));
+        emitter.onError(e -> unsubscribe(id, emitter));
+
+        Optional<EvaluationTask> task = taskRepository.findById(id);
+        if (task.isEmpty() || task.get().getStatus().isTerminal()) {
+            unsubscribe(id, emitter);
+        }
+        task.ifPresent(current -> send(emitter, current));
+        return task.map(current -> emitter);
+    }
+
+    public int queuedCount() {
+        return workers.getQueue().size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverUnfinished() {
+        try {
+            List<EvaluationTask> unfinished = taskRepository.findByStatusIn(
+                EnumSet.of(EvaluationTask.Status.QUEUED, EvaluationTask.Status.RUNNING));
+            unfinished.forEach(task -> enqueue(task.getId(), 0));
+            if (!unfinished.isEmpty()) {
+                logger.info("Re-queued {} unfinished evaluation tasks", unfinished.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Could not recover unfinished evaluation tasks: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Unfinished tasks stay QUEUED or RUNNING in Mongo and are picked up again on the next start
+        retryScheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    void process(String id) {
+        EvaluationTask task = taskRepository.findById(id).orElse(null);
+        if (task == null || task.getStatus().isTerminal()) {
+            return;
+        }
+        task.setAttempts(task.getAttempts() + 1);
+        task.setStatus(EvaluationTask.Status.RUNNING);
+        publish(taskRepository.save(task));
+
+        try {
+            Resume resume = resumeService.evaluateUpload(task.getFileName(), loadUpload(task.getUploadRef()),
+                task.getJobText(), task.getDomain(), task.getJobId(), MLCallGuard.Lane.BULK);
+            task.setResumeId(resume.getId());
+            task.setError(null);
+            task.setStatus(EvaluationTask.Status.COMPLETED);
+        } catch (Exception e) {
+            task.setError(e.getMessage());
+            // Bad input (e.g. the job was deleted meanwhile) fails right away
+            if (task.getAttempts() < maxAttempts && !(e instanceof IllegalArgumentException)) {
+                task.setStatus(EvaluationTask.Status.QUEUED);
+            } else {
+                logger.warn("Evaluation task {} failed after {} attempts: {}", id, task.getAttempts(), e.getMessage());
+                task.setStatus(EvaluationTask.Status.FAILED);
+            }
+        }
+
+        publish(taskRepository.save(task));
+        if (task.getStatus().isTerminal()) {
+            deleteUpload(task.getUploadRef());
+        } else {
+            enqueue(id, retryDelay(task.getAttempts()));
+        }
+    }
+
+    private void enqueue(String id, long delayMillis) {
+        if (retryScheduler.isShutdown()) {
+            return;
+        }
+        if (delayMillis > 0) {
+            retryScheduler.schedule(() -> enqueue(id, 0), delayMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+        try {
+            workers.execute(() -> process(id));
+        } catch (RejectedExecutionException e) {
+            // Retries and recovered tasks wait for room instead of being dropped
+            if (!workers.isShutdown()) {
+                enqueue(id, retryBackoff.toMillis());
+            }
+        }
+    }
+
+    private long retryDelay(int attempts) {
+        return retryBackoff.toMillis() << Math.min(attempts - 1, 10);
+    }
+
+    // Streamed from GridFS by the text extractor
+    private GridFsResource loadUpload(String ref) {
+        return gridFsTemplate.getResource(gridFsTemplate.findOne(query(where("_id").is(new ObjectId(ref)))));
+    }
+
+    private void deleteUpload(String ref) {
+        try {
+            gridFsTemplate.delete(query(where("_id").is(new ObjectId(ref))));
+        } catch (Exception e) {
+            logger.warn("Could not delete upload {}: {}", ref, e.getMessage());
+        }
+    }
+
+    private void publish(EvaluationTask task) {
+        List<SseEmitter> emitters = subscribers.get(task.getId());
+        if (emitters != null) {
+            emitters.forEach(emitter -> send(emitter, task));
+            if (task.getStatus().isTerminal()) {
+                subscribers.remove(task.getId());
+            }
+        }
+    }
+
+    private void unsubscribe(String id, SseEmitter emitter) {
+        subscribers.computeIfPresent(id, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void send(SseEmitter emitter, EvaluationTask task) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(task));
+            if (task.getStatus().isTerminal()) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.resumematcher.service;
+
+import com.resumematcher.model.Job;
+import com.resumematcher.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// Text, domain and required skills of recently used jobs, so "many resumes, one posting" uploads
+// only send the job id. Embeddings are not duplicated here; they already live in the EmbeddingStore.
+// JobService invalidates entries on update and delete.
+@Component
+public class JobCache {
+
+    private static final String[] FIELDS = {"jobText", "domain", "requiredSkills"};
+
+    public record CachedJob(String id, String jobText, String domain, List<String> requiredSkills) {}
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final Map<String, CachedJob> entries;
+    private final Counter hits;
+    private final Counter misses;
+    // Bumped on every invalidation so a load that raced with it is not cached
+    private long generation;
+
+    public JobCache(@Value("${jobs.cache.max-size:1000}") int maxSize, MeterRegistry meterRegistry) {
+        // Access-ordered map gives us LRU eviction once maxSize is exceeded
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedJob> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder("jobs.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jobs.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("jobs.cache.size", this, JobCache::size).register(meterRegistry);
+    }
+
+    public Optional<CachedJob> get(String jobId) {
+        long loadGeneration;
+        synchronized (this) {
+            CachedJob cached = entries.get(jobId);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+
+        // Loaded outside the lock; the projection skips the embeddings
+        Query query = new Query(where("id").is(jobId));
+        query.fields().include(FIELDS);
+        Job job = mongoTemplate.findOne(query, Job.class);
+        if (job == null) {
+            return Optional.empty();
+        }
+        CachedJob loaded = new CachedJob(job.getId(), job.getJobText(), job.getDomain(),
+            job.getRequiredSkills() != null ? new ArrayList<>(job.getRequiredSkills()) : List.of());
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(jobId, loaded);
+            }
+        }
+        return Optional.of(loaded);
+    }
+
+    public synchronized void invalidate(String jobId) {
+        entries.remove(jobId);
+        generation++;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,167 @@
+package com.resumematcher.service;
+
+import com.resumematcher.dto.JobMatch;
+import com.resumematcher.model.Resume;
+import com.resumematcher.repository.ResumeRepository;
+import com.resumematcher.service.embedding.EmbeddingStore;
+import com.resumematcher.service.embedding.HnswIndex;
+import com.resumematcher.service.embedding.VectorOps;
+import com.resumematcher.service.ml.MLEmbeddingResponse;
+import com.resumematcher.service.ml.MLServiceClient;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class JobMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobMatchingService.class);
+
+    private static final Comparator<JobMatch> BY_SCORE = Comparator.comparingDouble(JobMatch::score)
+        .thenComparing(JobMatch::jobId, Comparator.nullsFirst(Comparator.reverseOrder()));
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private EmbeddingStore embeddingStore;
+
+    @Autowired
+    private HnswIndex hnswIndex;
+
+    @Autowired
+    private MLServiceClient mlServiceClient;
+
+    @Value("${scoring.weights.cosine-similarity:0.4}")
+    private double similarityWeight;
+
+    @Value("${scoring.weights.skill-match:0.3}")
+    private double skillMatchWeight;
+
+    @Value("${matching.max-k:100}")
+    private int maxK;
+
+    @Value("${matching.hnsw.min-jobs:50000}")
+    private int approximateMinJobs;
+
+    @Value("${matching.hnsw.candidates-per-result:10}")
+    private int candidatesPerResult;
+
+    private final ForkJoinPool scoringPool;
+
+    public JobMatchingService(@Value("${matching.parallelism:0}") int parallelism) {
+        this.scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public Optional<List<JobMatch>> findBestJobs(String resumeId, int k, String domain) {
+        Optional<Resume> resume = resumeRepository.findById(resumeId);
+        if (resume.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<String> resumeSkills = lowerCaseSkills(resume.get());
+        Map<String, float[]> resumeEmbeddings = embedResume(resume.get());
+        int limit = Math.min(Math.max(k, 1), maxK);
+
+        if (!resumeEmbeddings.isEmpty() && hnswIndex.isReady() && embeddingStore.size() >= approximateMinJobs) {
+            return Optional.of(rankApproximate(resumeEmbeddings, domain, limit, resumeSkills));
+        }
+
+        try {
+            // Each worker keeps its own bounded heap; heaps are merged at the end
+            TopK<JobMatch> best = scoringPool.submit(() -> embeddingStore.scan(resumeEmbeddings, domain,
+                    () -> new TopK<>(limit, BY_SCORE),
+                    (topK, job, similarity) -> topK.offer(score(job, similarity, resumeSkills)),
+                    TopK::merge))
+                .get();
+            return Optional.of(best.toSortedList());
+        } catch (Exception e) {
+            throw new RuntimeException("Error ranking jobs: " + e.getMessage(), e);
+        }
+    }
+
+    // Pulls a wider candidate set from the HNSW graphs and re-ranks it with skills; jobs with a strong
+    // skill overlap but low similarity can be missed, which is the price of not scanning everything
+    private List<JobMatch> rankApproximate(Map<String, float[]> resumeEmbeddings, String domain, int limit,
+                                           Set<String> resumeSkills) {
+        TopK<JobMatch> best = new TopK<>(limit, BY_SCORE);
+        hnswIndex.search(resumeEmbeddings, domain, limit * candidatesPerResult).forEach((jobId, similarity) -> {
+            EmbeddingStore.JobEntry job = embeddingStore.get(jobId);
+            if (job != null) {
+                best.offer(score(job, similarity, resumeSkills));
+            }
+        });
+        return best.toSortedList();
+    }
+
+    private JobMatch score(EmbeddingStore.JobEntry job, double similarity, Set<String> resumeSkills) {
+        List<String> matchedSkills = new ArrayList<>();
+        for (String skill : job.requiredSkills()) {
+            if (resumeSkills.contains(skill.toLowerCase(Locale.ROOT))) {
+                matchedSkills.add(skill);
+            }
+        }
+        double skillMatchRatio = job.requiredSkills().isEmpty()
+            ? 0.0 : (double) matchedSkills.size() / job.requiredSkills().size();
+
+        double score = (similarityWeight * similarity + skillMatchWeight * skillMatchRatio)
+            / (similarityWeight + skillMatchWeight);
+        return new JobMatch(job.jobId(), job.title(), job.company(), job.location(), job.domain(),
+            score, similarity, skillMatchRatio, matchedSkills);
+    }
+
+    private Map<String, float[]> embedResume(Resume resume) {
+        try {
+            String rawText = resumeService.getRawText(resume).orElse(null);
+            if (rawText == null || rawText.isBlank()) {
+                return Map.of();
+            }
+            MLEmbeddingResponse response = mlServiceClient.embed(rawText).block();
+            Map<String, float[]> normalized = new HashMap<>();
+            if (response != null && response.embeddings() != null) {
+                // Normalise once so the store can score with plain dot products
+                response.embeddings().forEach((model, vector) -> {
+                    float[] unit = VectorOps.normalize(vector);
+                    if (unit != null) {
+                        normalized.put(model, unit);
+                    }
+                });
+            }
+            return normalized;
+        } catch (Exception e) {
+            // Rank on skills alone rather than failing the request
+            logger.warn("Could not embed resume {}, ranking by skills only: {}", resume.getId(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static Set<String> lowerCaseSkills(Resume resume) {
+        Set<String> skills = new HashSet<>();
+        if (resume.getParsedEntities() != null && resume.getParsedEntities().getSkills() != null) {
+            resume.getParsedEntities().getSkills().forEach(skill -> skills.add(skill.toLowerCase(Locale.ROOT)));
+        }
+        return skills;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scoringPool.shutdown();
+    }
+}
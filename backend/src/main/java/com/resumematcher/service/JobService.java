@@ -1,40 +1,269 @@
 package com.resumematcher.service;
 
+import com.mongodb.client.result.UpdateResult;
+import com.resumematcher.dto.CursorPage;
+import com.resumematcher.dto.EmbeddingBackfillResult;
+import com.resumematcher.dto.JobSearchPage;
+import com.resumematcher.dto.JobSummary;
 import com.resumematcher.model.Job;
 import com.resumematcher.repository.JobRepository;
+import com.resumematcher.repository.KeysetPager;
+import com.resumematcher.service.embedding.EmbeddingCodec;
+import com.resumematcher.service.embedding.EmbeddingStore;
+import com.resumematcher.service.embedding.HnswIndex;
+import com.resumematcher.service.scoring.SkillExtractor;
+import com.resumematcher.service.ml.MLCallGuard;
+import com.resumematcher.service.ml.MLServiceClient;
+import com.resumematcher.service.search.JobSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 @Service
 public class JobService {
 
+    private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+
+    private static final int BACKFILL_SAVE_SIZE = 100;
+
     @Autowired
     private JobRepository jobRepository;
 
+    @Autowired
+    private KeysetPager keysetPager;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private SkillExtractor skillExtractor;
+
+    @Autowired
+    private EmbeddingStore embeddingStore;
+
+    @Autowired
+    private HnswIndex hnswIndex;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private MLServiceClient mlServiceClient;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Value("${jobs.embeddings.precompute:true}")
+    private boolean precomputeEmbeddings;
+
+    @Value("${jobs.embeddings.backfill-concurrency:8}")
+    private int backfillConcurrency;
+
     public Job createJob(Job job) {
-        return jobRepository.save(job);
+        return prepareAndSave(job);
+    }
+
+    private Job prepareAndSave(Job job) {
+        // Derive required skills from the posting when the caller did not list them
+        if ((job.getRequiredSkills() == null || job.getRequiredSkills().isEmpty()) && job.getJobText() != null) {
+            job.setRequiredSkills(skillExtractor.extractSkills(job.getJobText()));
+        }
+        if (precomputeEmbeddings) {
+            // Embedded once here so evaluations and matching never re-encode the job text
+            try {
+                embed(job, MLCallGuard.Lane.INTERACTIVE).block();
+            } catch (Exception e) {
+                logger.warn("Could not embed job '{}', it can be backfilled later: {}", job.getTitle(), e.getMessage());
+            }
+        }
+        Job saved = jobRepository.save(job);
+        embeddingStore.upsert(saved);
+        hnswIndex.upsert(saved);
+        jobSearchIndex.index(saved);
+        return saved;
+    }
+
+    // Replaces the posting fields of a stored job; the job is re-embedded when its text changes
+    public Optional<Job> updateJob(String id, Job changes) {
+        Optional<Job> existing = jobRepository.findById(id);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        Job job = existing.get();
+        boolean textChanged = !Objects.equals(job.getJobText(), changes.getJobText());
+        job.setTitle(changes.getTitle());
+        job.setCompany(changes.getCompany());
+        job.setLocation(changes.getLocation());
+        job.setDomain(changes.getDomain());
+        job.setJobText(changes.getJobText());
+        job.setRequiredSkills(changes.getRequiredSkills());
+        if (changes.getJobEmbeddings() != null || changes.getEmbeddingVectors() != null) {
+            job.setJobEmbeddings(changes.getJobEmbeddings());
+            job.setEmbeddingVectors(changes.getEmbeddingVectors());
+        } else if (textChanged) {
+            job.setJobEmbeddings(null);
+            job.setEmbeddingVectors(null);
+        }
+        // The update is picked up by the snapshot catch-up through updatedAt
+        job.setUpdatedAt(LocalDateTime.now());
+
+        Job saved = prepareAndSave(job);
+        jobCache.invalidate(id);
+        return Optional.of(saved);
     }
 
     public Optional<Job> getJobById(String id) {
         return jobRepository.findById(id);
     }
 
-    public List<Job> getAllJobs() {
-        return jobRepository.findAll();
+    public CursorPage<Job> getJobPage(String domain, String cursor, int limit) {
+        return keysetPager.page(Job.class, domain, cursor, limit, Job::getCreatedAt, Job::getId);
+    }
+
+    // Caller must close the stream to release the Mongo cursor
+    public Stream<Job> streamJobs(String domain) {
+        return keysetPager.stream(Job.class, domain);
+    }
+
+    public CursorPage<JobSummary> getJobSummaryPage(String domain, String cursor, int limit) {
+        CursorPage<Job> page = keysetPager.page(Job.class, domain, cursor, limit,
+            Job::getCreatedAt, Job::getId, JobSummary.FIELDS);
+        return new CursorPage<>(page.items().stream().map(JobSummary::from).toList(), page.nextCursor());
+    }
+
+    public Stream<JobSummary> streamJobSummaries(String domain) {
+        return keysetPager.stream(Job.class, domain, JobSummary.FIELDS).map(JobSummary::from);
+    }
+
+    public JobSearchPage searchJobs(String query, String domain, int page, int size) {
+        if (!jobSearchIndex.isReady()) {
+            return searchJobsByTitle(query, domain, page, size);
+        }
+        JobSearchIndex.Result result = jobSearchIndex.search(query, domain, page, size);
+        // Only the requested page is loaded from Mongo
+        Map<String, Job> jobs = jobRepository.findAllById(result.hits().stream().map(JobSearchIndex.Hit::jobId).toList())
+            .stream()
+            .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<JobSearchPage.Hit> hits = new ArrayList<>();
+        for (JobSearchIndex.Hit hit : result.hits()) {
+            Job job = jobs.get(hit.jobId());
+            if (job != null) {
+                hits.add(new JobSearchPage.Hit(job, hit.score()));
+            }
+        }
+        return new JobSearchPage(query, domain, page, size, result.total(), hits);
+    }
+
+    // Fallback while the search index is still loading
+    private JobSearchPage searchJobsByTitle(String title, String domain, int page, int size) {
+        List<Job> matches = jobRepository.findByTitleContainingIgnoreCase(title).stream()
+            .filter(job -> domain == null || domain.equals(job.getDomain()))
+            .toList();
+        List<JobSearchPage.Hit> hits = matches.stream()
+            .skip((long) page * size)
+            .limit(size)
+            .map(job -> new JobSearchPage.Hit(job, 0.0))
+            .toList();
+        return new JobSearchPage(title, domain, page, size, matches.size(), hits);
+    }
+
+    // Embeds every job stored without compact embeddings and converts legacy List<Double> vectors
+    public EmbeddingBackfillResult backfillEmbeddings() {
+        AtomicLong failed = new AtomicLong();
+        try (Stream<Job> jobs = jobRepository.findByEmbeddingVectorsIsNull()) {
+            Long updated = Flux.fromStream(jobs)
+                // Cursor reads happen on a worker thread, never on the HTTP client's event loop
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(job -> embed(job, MLCallGuard.Lane.BULK).onErrorResume(e -> {
+                    logger.warn("Could not embed job {}: {}", job.getId(), e.getMessage());
+                    failed.incrementAndGet();
+                    return Mono.empty();
+                }), backfillConcurrency)
+                .filter(EmbeddingCodec::hasEmbeddings)
+                .buffer(BACKFILL_SAVE_SIZE)
+                .concatMap(batch -> Mono.fromCallable(() -> {
+                        long saved = 0;
+                        for (Job job : batch) {
+                            if (saveEmbeddings(job)) {
+                                embeddingStore.upsert(job);
+                                hnswIndex.upsert(job);
+                                saved++;
+                            }
+                        }
+                        return saved;
+                    })
+                    .subscribeOn(Schedulers.boundedElastic()))
+                .reduce(0L, Long::sum)
+                .block();
+            return new EmbeddingBackfillResult(updated != null ? updated : 0L, failed.get());
+        }
     }
 
-    public List<Job> getJobsByDomain(String domain) {
-        return jobRepository.findByDomain(domain);
+    // Writes only the embedding fields, and only if the job was not updated since it was read;
+    // a job edited meanwhile keeps the edit and is re-embedded by it or by the next backfill
+    private boolean saveEmbeddings(Job job) {
+        LocalDateTime now = LocalDateTime.now();
+        UpdateResult result = mongoTemplate.updateFirst(
+            query(where("id").is(job.getId()).and("updatedAt").is(job.getUpdatedAt())),
+            new Update()
+                .set("embeddingVectors", job.getEmbeddingVectors())
+                .unset("jobEmbeddings")
+                .set("updatedAt", now),
+            Job.class);
+        if (result.getMatchedCount() == 0) {
+            logger.debug("Job {} changed during the embedding backfill, skipped", job.getId());
+            return false;
+        }
+        job.setUpdatedAt(now);
+        return true;
     }
 
-    public List<Job> searchJobsByTitle(String title) {
-        return jobRepository.findByTitleContainingIgnoreCase(title);
+    // Fills the job's compact embeddings: legacy vectors are converted, otherwise the ML service
+    // encodes the job text once with every model
+    private Mono<Job> embed(Job job, MLCallGuard.Lane lane) {
+        if (EmbeddingCodec.hasEmbeddings(job)) {
+            job.setEmbeddingVectors(EmbeddingCodec.encodeAll(EmbeddingCodec.vectors(job)));
+            job.setJobEmbeddings(null);
+            return Mono.just(job);
+        }
+        if (job.getJobText() == null || job.getJobText().isBlank()) {
+            return Mono.just(job);
+        }
+        return mlServiceClient.embed(job.getJobText(), lane)
+            .map(response -> {
+                if (response.embeddings() != null) {
+                    job.setEmbeddingVectors(EmbeddingCodec.encodeAll(response.embeddings()));
+                }
+                return job;
+            });
     }
 
     public void deleteJob(String id) {
         jobRepository.deleteById(id);
+        jobCache.invalidate(id);
+        embeddingStore.remove(id);
+        hnswIndex.remove(id);
+        jobSearchIndex.remove(id);
     }
 }
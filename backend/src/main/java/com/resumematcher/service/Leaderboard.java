@@ -0,0 +1,144 @@
+package com.resumematcher.service;
+
+import com.resumematcher.dto.CursorPage;
+import com.resumematcher.dto.ResumeSummary;
+import com.resumematcher.model.Resume;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Top resumes by finalScore, overall, per domain and per job. Each board keeps the best
+// `capacity` entries in memory. A board is seeded from the finalScore index the first time it is
+// read and updated on every evaluation after that. Pages past the in-memory entries continue
+// from Mongo with the same (score, id) cursor.
+@Component
+public class Leaderboard {
+
+    private static final String SCORE_FIELD = "evaluationResult.finalScore";
+    private static final Sort BEST_FIRST = Sort.by(Sort.Order.desc(SCORE_FIELD), Sort.Order.desc("id"));
+    private static final String ALL = "*";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final int capacity;
+    private final Map<String, TopScoreBoard> boards;
+
+    public Leaderboard(@Value("${leaderboard.capacity:1000}") int capacity,
+                       @Value("${leaderboard.max-boards:10000}") int maxBoards) {
+        this.capacity = capacity;
+        // Boards only exist for keys someone has read; the least recently read ones are dropped
+        this.boards = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TopScoreBoard> eldest) {
+                return size() > maxBoards;
+            }
+        };
+    }
+
+    public void record(Resume resume) {
+        if (resume.getId() == null || resume.getEvaluationResult() == null
+                || ResumeService.DEGRADED_MODEL_NAME.equals(resume.getEvaluationResult().getBestModelName())) {
+            return;
+        }
+        ResumeSummary summary = ResumeSummary.from(resume);
+        for (String key : keys(resume.getDomain(), resume.getJobId())) {
+            TopScoreBoard board;
+            synchronized (boards) {
+                board = boards.get(key);
+            }
+            if (board != null) {
+                board.offer(summary);
+            }
+        }
+    }
+
+    // jobId takes precedence over domain; neither means the overall board
+    public CursorPage<ResumeSummary> page(String domain, String jobId, String cursor, int limit) {
+        ResumeSummary after = cursor != null ? decodeCursor(cursor) : null;
+        String key = boardKey(domain, jobId);
+        TopScoreBoard board;
+        synchronized (boards) {
+            board = boards.computeIfAbsent(key, k -> new TopScoreBoard(capacity));
+        }
+        board.seedIfNeeded(() -> load(domain, jobId, null, capacity));
+
+        // One extra entry tells us whether there is a next page
+        List<ResumeSummary> items = new ArrayList<>(board.page(after, limit + 1));
+        if (items.size() <= limit && board.isTruncated()) {
+            ResumeSummary last = items.isEmpty() ? after : items.get(items.size() - 1);
+            items.addAll(load(domain, jobId, last, limit + 1 - items.size()));
+        }
+        if (items.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        items = items.subList(0, limit);
+        return new CursorPage<>(items, encodeCursor(items.get(limit - 1)));
+    }
+
+    private List<ResumeSummary> load(String domain, String jobId, ResumeSummary after, int limit) {
+        Criteria criteria = Criteria.where(SCORE_FIELD).exists(true)
+            .and("evaluationResult.bestModelName").ne(ResumeService.DEGRADED_MODEL_NAME);
+        if (jobId != null) {
+            criteria = criteria.and("jobId").is(jobId);
+        } else if (domain != null) {
+            criteria = criteria.and("domain").is(domain);
+        }
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+                Criteria.where(SCORE_FIELD).lt(after.finalScore()),
+                Criteria.where(SCORE_FIELD).is(after.finalScore()).and("id").lt(after.id())));
+        }
+        Query query = new Query(criteria).with(BEST_FIRST).limit(limit);
+        query.fields().include(ResumeSummary.FIELDS);
+        return mongoTemplate.find(query, Resume.class).stream().map(ResumeSummary::from).toList();
+    }
+
+    private static List<String> keys(String domain, String jobId) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(ALL);
+        if (domain != null) {
+            keys.add(boardKey(domain, null));
+        }
+        if (jobId != null) {
+            keys.add(boardKey(null, jobId));
+        }
+        return keys;
+    }
+
+    private static String boardKey(String domain, String jobId) {
+        if (jobId != null) {
+            return "job:" + jobId;
+        }
+        return domain != null ? "domain:" + domain : ALL;
+    }
+
+    static String encodeCursor(ResumeSummary last) {
+        String key = last.finalScore() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ResumeSummary decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = key.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new ResumeSummary(parts[1], null, null, null, null, Double.parseDouble(parts[0]), null);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
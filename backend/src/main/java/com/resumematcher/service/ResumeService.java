@@ -1,207 +1,480 @@
 package com.resumematcher.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumematcher.dto.BatchUploadItem;
+import com.resumematcher.dto.CursorPage;
+import com.resumematcher.dto.ResumeSummary;
 import com.resumematcher.model.Resume;
+import com.resumematcher.repository.KeysetPager;
+import com.resumematcher.repository.ReactiveResumeRepository;
 import com.resumematcher.repository.ResumeRepository;
+import com.resumematcher.service.embedding.EmbeddingStore;
+import com.resumematcher.service.ml.MLEvaluationResponse;
+import com.resumematcher.service.ml.MLCallGuard;
+import com.resumematcher.service.ml.MLServiceClient;
+import com.resumematcher.service.ml.MLServiceUnavailableException;
+import com.resumematcher.service.scoring.ScoringEngine;
+import com.resumematcher.service.scoring.SkillExtractor;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 @Service
 public class ResumeService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ResumeService.class);
+
+    // bestModelName of results scored without the ML service; they are kept off the leaderboard
+    public static final String DEGRADED_MODEL_NAME = "rule-based";
+
     @Autowired
     private ResumeRepository resumeRepository;
 
-    @Value("${ml.service.url}")
-    private String mlServiceUrl;
+    @Autowired
+    private ReactiveResumeRepository reactiveResumeRepository;
+
+    @Autowired
+    private KeysetPager keysetPager;
+
+    @Autowired
+    private EvaluationCache evaluationCache;
+
+    @Autowired
+    private TextBlobStore textBlobStore;
+
+    @Autowired
+    private TextExtractor textExtractor;
+
+    @Autowired
+    private Leaderboard leaderboard;
+
+    @Autowired
+    private MLServiceClient mlServiceClient;
+
+    @Autowired
+    private EmbeddingStore embeddingStore;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private EvaluationMetrics metrics;
+
+    @Autowired
+    private ScoringEngine scoringEngine;
+
+    @Autowired
+    private SkillExtractor skillExtractor;
+
+    @Value("#{'${scoring.mode:remote}' == 'local'}")
+    private boolean localScoring;
+
+    @Value("${scoring.degraded-fallback:false}")
+    private boolean degradedScoringEnabled;
+
+    @Value("${resume.batch.concurrency:16}")
+    private int batchConcurrency;
 
-    private final WebClient webClient;
+    @Value("${resume.batch.save-size:100}")
+    private int batchSaveSize;
 
-    public ResumeService() {
-        this.webClient = WebClient.builder().build();
+    public Resume uploadAndEvaluateResume(MultipartFile file, String jobText, String domain, String jobId) {
+        return evaluateUpload(file.getOriginalFilename(), file, jobText, domain, jobId, MLCallGuard.Lane.INTERACTIVE);
     }
 
-    public Resume uploadAndEvaluateResume(MultipartFile file, String jobText, String domain) {
+    // Shared by the synchronous upload and the asynchronous evaluation queue, which calls the ML
+    // service in the bulk lane
+    public Resume evaluateUpload(String fileName, InputStreamSource content, String jobText, String domain,
+                                 String jobId, MLCallGuard.Lane lane) {
+        JobContext job = resolveJob(jobText, domain, jobId);
+        Timer.Sample total = metrics.start();
         try {
             // Extract text from file
-            String resumeText = extractTextFromFile(file);
-            
-            // Create resume object
-            Resume resume = new Resume(file.getOriginalFilename(), resumeText, domain);
+            String resumeText = metrics.time(EvaluationMetrics.STAGE_EXTRACT, job.domain(), EvaluationMetrics.NO_MODEL,
+                () -> textExtractor.extract(fileName, content));
             
             // Call ML service for evaluation
-            Map<String, Object> mlResponse = callMLService(resumeText, jobText, domain);
-            
-            // Parse evaluation result from ML response
-            Resume.EvaluationResult evaluationResult = parseEvaluationResult(mlResponse);
-            resume.setEvaluationResult(evaluationResult);
+            MLEvaluationResponse mlResponse = callMLService(resumeText, job, lane);
             
-            // Parse entities from ML response
-            Resume.ParsedEntities parsedEntities = parseParsedEntities(mlResponse);
-            resume.setParsedEntities(parsedEntities);
+            // Parse evaluation result and entities from ML response
+            Resume resume = buildResume(fileName, resumeText, job, mlResponse);
+            String model = resume.getEvaluationResult().getBestModelName();
             
-            // Save to database
-            return resumeRepository.save(resume);
+            // Save to database, with the raw text moved to the blob store
+            Resume saved = metrics.time(EvaluationMetrics.STAGE_SAVE, job.domain(), model,
+                () -> resumeRepository.save(externalizeRawText(resume)));
+            leaderboard.record(saved);
+            metrics.stop(total, EvaluationMetrics.STAGE_TOTAL, job.domain(), model);
+            return saved;
             
+        } catch (MLServiceUnavailableException | RejectedExecutionException e) {
+            // Load shedding is reported to the caller as such
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error processing resume: " + e.getMessage(), e);
         }
     }
 
+    public Mono<Resume> uploadAndEvaluateResumeReactive(MultipartFile file, String jobText, String domain,
+                                                        String jobId) {
+        // Job lookup and reading the multipart content may block, so keep both off the event loop
+        return Mono.defer(() -> {
+            Timer.Sample total = metrics.start();
+            return Mono.fromCallable(() -> resolveJob(jobText, domain, jobId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(job -> Mono.fromCallable(() -> metrics.time(EvaluationMetrics.STAGE_EXTRACT, job.domain(),
+                        EvaluationMetrics.NO_MODEL, () -> extractTextFromFile(file)))
+                    .flatMap(resumeText -> callMLServiceAsync(resumeText, job, MLCallGuard.Lane.INTERACTIVE)
+                        .map(mlResponse -> buildResume(file.getOriginalFilename(), resumeText, job, mlResponse))))
+                // GridFS is blocking
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::externalizeRawText)
+                .flatMap(resume -> {
+                    Timer.Sample sample = metrics.start();
+                    return reactiveResumeRepository.save(resume)
+                        .doOnNext(saved -> metrics.stop(sample, EvaluationMetrics.STAGE_SAVE, saved.getDomain(),
+                            saved.getEvaluationResult().getBestModelName()));
+                })
+                .doOnNext(leaderboard::record)
+                .doOnNext(saved -> metrics.stop(total, EvaluationMetrics.STAGE_TOTAL, saved.getDomain(),
+                    saved.getEvaluationResult().getBestModelName()));
+        });
+    }
+
+    public Mono<Resume> getResumeByIdReactive(String id) {
+        return reactiveResumeRepository.findById(id);
+    }
+
+    // One item per file or zip entry; a file that cannot be read or scored is reported as skipped,
+    // while load shedding (open circuit, full pools) fails the whole batch so the caller backs off
+    public List<BatchUploadItem> uploadAndEvaluateResumes(List<MultipartFile> files, String jobText, String domain,
+                                                          String jobId) {
+        // Resolved once for the whole batch
+        JobContext job = resolveJob(jobText, domain, jobId);
+        try {
+            // Expand archives and extract text from every file up front
+            List<ResumeDocument> documents = new ArrayList<>();
+            List<BatchUploadItem> results = new ArrayList<>();
+            for (MultipartFile file : files) {
+                if (file.isEmpty()) {
+                    continue;
+                }
+                if (file.getOriginalFilename() != null && file.getOriginalFilename().toLowerCase().endsWith(".zip")) {
+                    extractDocumentsFromZip(file, job, documents, results);
+                } else {
+                    extractDocument(file.getOriginalFilename(), file, false, job, documents, results);
+                }
+            }
+
+            // Fan out to the ML service with bounded concurrency and persist in batches
+            List<BatchUploadItem> evaluated = Flux.fromIterable(documents)
+                .flatMap(document -> evaluateDocument(document, job), batchConcurrency)
+                .buffer(batchSaveSize)
+                .concatMap(batch -> Mono.fromCallable(() -> saveBatch(batch, job))
+                    .subscribeOn(Schedulers.boundedElastic()))
+                .flatMapIterable(batch -> batch)
+                .collectList()
+                .block();
+
+            if (evaluated != null) {
+                results.addAll(evaluated);
+            }
+            return results;
+
+        } catch (MLServiceUnavailableException | RejectedExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Error processing resumes: " + e.getMessage(), e);
+        }
+    }
+
     public Optional<Resume> getResumeById(String id) {
         return resumeRepository.findById(id);
     }
 
-    public List<Resume> getAllResumes() {
-        return resumeRepository.findAll();
+    // Raw text is only read from the blob store when it is actually asked for
+    public Optional<String> getResumeText(String id) {
+        return resumeRepository.findById(id).flatMap(this::getRawText);
     }
 
-    public List<Resume> getResumesByDomain(String domain) {
-        return resumeRepository.findByDomain(domain);
+    public Optional<String> getRawText(Resume resume) {
+        if (resume.getRawText() != null) {
+            return Optional.of(resume.getRawText());
+        }
+        return resume.getRawTextRef() != null ? textBlobStore.load(resume.getRawTextRef()) : Optional.empty();
     }
 
-    private String extractTextFromFile(MultipartFile file) throws IOException {
-        // Simple text extraction - in production, you'd use libraries like Apache Tika
-        if (file.getOriginalFilename().endsWith(".txt")) {
-            return new String(file.getBytes(), StandardCharsets.UTF_8);
-        } else {
-            // For PDF/DOCX files, you'd need additional libraries
-            return "Extracted text from " + file.getOriginalFilename();
+    public CursorPage<Resume> getResumePage(String domain, String cursor, int limit) {
+        return keysetPager.page(Resume.class, domain, cursor, limit, Resume::getCreatedAt, Resume::getId);
+    }
+
+    // Caller must close the stream to release the Mongo cursor
+    public Stream<Resume> streamResumes(String domain) {
+        return keysetPager.stream(Resume.class, domain);
+    }
+
+    public CursorPage<ResumeSummary> getResumeSummaryPage(String domain, String cursor, int limit) {
+        CursorPage<Resume> page = keysetPager.page(Resume.class, domain, cursor, limit,
+            Resume::getCreatedAt, Resume::getId, ResumeSummary.FIELDS);
+        return new CursorPage<>(page.items().stream().map(ResumeSummary::from).toList(), page.nextCursor());
+    }
+
+    public Stream<ResumeSummary> streamResumeSummaries(String domain) {
+        return keysetPager.stream(Resume.class, domain, ResumeSummary.FIELDS).map(ResumeSummary::from);
+    }
+
+    private Mono<BatchUploadItem> evaluateDocument(ResumeDocument document, JobContext job) {
+        return callMLServiceAsync(document.text(), job, MLCallGuard.Lane.BULK)
+            .map(mlResponse -> BatchUploadItem.evaluated(
+                buildResume(document.fileName(), document.text(), job, mlResponse)))
+            .onErrorResume(e -> {
+                if (isLoadShedding(e)) {
+                    return Mono.error(e);
+                }
+                // A single failed evaluation should not abort the whole batch
+                logger.warn("Skipping resume {} in batch: {}", document.fileName(), e.getMessage());
+                return Mono.just(BatchUploadItem.skipped(document.fileName(), e.getMessage()));
+            });
+    }
+
+    // Saves the evaluated resumes of one buffer; skipped items pass through unchanged
+    private List<BatchUploadItem> saveBatch(List<BatchUploadItem> batch, JobContext job) {
+        List<Resume> resumes = batch.stream()
+            .map(BatchUploadItem::resume)
+            .filter(Objects::nonNull)
+            .map(this::externalizeRawText)
+            .toList();
+        // One sample per batch; models are mixed within a batch
+        List<Resume> saved = metrics.time(EvaluationMetrics.STAGE_SAVE, job.domain(),
+            EvaluationMetrics.NO_MODEL, () -> resumeRepository.saveAll(resumes));
+        saved.forEach(leaderboard::record);
+
+        List<BatchUploadItem> results = new ArrayList<>();
+        batch.stream().filter(item -> item.resume() == null).forEach(results::add);
+        saved.forEach(resume -> results.add(BatchUploadItem.evaluated(resume)));
+        return results;
+    }
+
+    private static boolean isLoadShedding(Throwable e) {
+        return e instanceof MLServiceUnavailableException || e instanceof RejectedExecutionException;
+    }
+
+    private Resume externalizeRawText(Resume resume) {
+        if (resume.getRawText() != null && !resume.getRawText().isEmpty()) {
+            resume.setRawTextRef(textBlobStore.store(resume.getRawText()));
+            resume.setRawText(null);
+        }
+        return resume;
+    }
+
+    private Resume buildResume(String fileName, String resumeText, JobContext job, MLEvaluationResponse mlResponse) {
+        Timer.Sample sample = metrics.start();
+        Resume resume = new Resume(fileName, resumeText, job.domain());
+        resume.setJobId(job.id());
+        resume.setEvaluationResult(parseEvaluationResult(mlResponse));
+        resume.setParsedEntities(parseParsedEntities(mlResponse, resumeText));
+        metrics.stop(sample, EvaluationMetrics.STAGE_PARSE, job.domain(), resume.getEvaluationResult().getBestModelName());
+        return resume;
+    }
+
+    private void extractDocumentsFromZip(MultipartFile file, JobContext job, List<ResumeDocument> documents,
+                                         List<BatchUploadItem> skipped) throws IOException {
+        try (InputStream in = file.getInputStream(); ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    String fileName = entry.getName().substring(entry.getName().lastIndexOf('/') + 1);
+                    // The extractor reads the entry straight from the archive stream
+                    extractDocument(fileName, () -> StreamUtils.nonClosing(zip), true, job, documents, skipped);
+                }
+                zip.closeEntry();
+            }
         }
     }
 
-    private Map<String, Object> callMLService(String resumeText, String jobText, String domain) {
+    // A file whose text cannot be extracted is reported as skipped; a full extraction pool is not
+    // a problem with the file and is rethrown. So is a timed-out archive entry: its parse may still be
+    // reading the shared archive stream, so the remaining entries cannot be read safely
+    private void extractDocument(String fileName, InputStreamSource content, boolean archiveEntry, JobContext job,
+                                 List<ResumeDocument> documents, List<BatchUploadItem> skipped) {
         try {
-            // Create multipart body with boundary
-            String boundary = "----WebKitFormBoundary" + System.currentTimeMillis();
-            String multipartBody = createMultipartBody(resumeText, jobText, domain, boundary);
-            
-            // Call ML service using multipart form data
-            String response = webClient.post()
-                .uri(mlServiceUrl + "/evaluate")
-                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
-                .bodyValue(multipartBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+            documents.add(new ResumeDocument(fileName, metrics.time(EvaluationMetrics.STAGE_EXTRACT, job.domain(),
+                EvaluationMetrics.NO_MODEL, () -> textExtractor.extract(fileName, content))));
+        } catch (RejectedExecutionException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            if (archiveEntry && e.getCause() instanceof TimeoutException) {
+                throw e;
+            }
+            logger.warn("Skipping resume {} in batch: {}", fileName, e.getMessage());
+            skipped.add(BatchUploadItem.skipped(fileName, e.getMessage()));
+        }
+    }
 
-            // Parse JSON response
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(response, Map.class);
-            
+    private String extractTextFromFile(MultipartFile file) {
+        return textExtractor.extract(file.getOriginalFilename(), file);
+    }
+
+    // An upload either carries the job text or references a stored job by id; the stored job fills in
+    // whatever the caller left out (blank counts as left out), and its required skills are used when
+    // its text is
+    private JobContext resolveJob(String jobText, String domain, String jobId) {
+        boolean hasJobText = StringUtils.hasText(jobText);
+        boolean hasDomain = StringUtils.hasText(domain);
+        if (jobId == null) {
+            if (!hasJobText) {
+                throw new IllegalArgumentException("Either jobText or jobId is required");
+            }
+            if (!hasDomain) {
+                throw new IllegalArgumentException("domain is required unless jobId is given");
+            }
+            return new JobContext(null, jobText, domain, null);
+        }
+        if (hasJobText && hasDomain) {
+            return new JobContext(jobId, jobText, domain, null);
+        }
+        JobCache.CachedJob stored = jobCache.get(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown job: " + jobId));
+        return hasJobText
+            ? new JobContext(jobId, jobText, stored.domain(), null)
+            : new JobContext(jobId, stored.jobText(), hasDomain ? domain : stored.domain(), stored.requiredSkills());
+    }
+
+    private MLEvaluationResponse callMLService(String resumeText, JobContext job, MLCallGuard.Lane lane) {
+        try {
+            return callMLServiceAsync(resumeText, job, lane).block();
+        } catch (MLServiceUnavailableException e) {
+            // Rejected without calling the service; callers answer 503 rather than 500
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error calling ML service: " + e.getMessage(), e);
         }
     }
 
-    private String createMultipartBody(String resumeText, String jobText, String domain, String boundary) {
-        // Create multipart form data manually with proper boundary
-        StringBuilder body = new StringBuilder();
-        
-        body.append("--").append(boundary).append("\r\n");
-        body.append("Content-Disposition: form-data; name=\"resume_text\"\r\n\r\n");
-        body.append(resumeText).append("\r\n");
-        
-        body.append("--").append(boundary).append("\r\n");
-        body.append("Content-Disposition: form-data; name=\"job_text\"\r\n\r\n");
-        body.append(jobText).append("\r\n");
-        
-        body.append("--").append(boundary).append("\r\n");
-        body.append("Content-Disposition: form-data; name=\"domain\"\r\n\r\n");
-        body.append(domain).append("\r\n");
-        
-        body.append("--").append(boundary).append("--\r\n");
-        
-        return body.toString();
+    private Mono<MLEvaluationResponse> callMLServiceAsync(String resumeText, JobContext job, MLCallGuard.Lane lane) {
+        String jobText = job.text();
+        String domain = job.domain();
+        return Mono.defer(() -> {
+            // Identical resume/job/domain/model inputs always produce the same evaluation
+            String cacheKey = evaluationCache.key(resumeText, jobText, domain);
+            MLEvaluationResponse cached = evaluationCache.get(cacheKey);
+            if (cached != null) {
+                metrics.countResult("cache", domain, cached.bestModelName());
+                return Mono.just(cached);
+            }
+
+            // A stored job was embedded when it was created, so only the resume needs encoding; the
+            // stored vectors describe the stored text, not one the caller sent along with the id
+            Map<String, float[]> jobEmbeddings = job.storedText() ? embeddingStore.vectors(job.id()) : null;
+            Mono<MLEvaluationResponse> evaluation = localScoring
+                // Only the embedding similarity needs the ML service; the rules run in-process
+                ? mlServiceClient.similarity(resumeText, jobText, domain, jobEmbeddings, lane)
+                    .map(similarity -> scoreLocally(resumeText, job,
+                        similarity.similarityScores(), similarity.bestModelName()))
+                : mlServiceClient.evaluate(resumeText, jobText, domain, jobEmbeddings, lane);
+
+            return evaluation
+                .doOnNext(response -> {
+                    evaluationCache.put(cacheKey, response);
+                    metrics.countResult("ml", domain, response.bestModelName());
+                })
+                .onErrorResume(e -> {
+                    // A call rejected by the circuit breaker or concurrency limit is answered with 503
+                    if (!degradedScoringEnabled || e instanceof MLServiceUnavailableException) {
+                        return Mono.error(e);
+                    }
+                    // Optionally keep serving rule-based scores without similarity while the ML service
+                    // is down; degraded results are not cached and not ranked
+                    logger.warn("ML service unavailable, using degraded scoring: {}", e.getMessage());
+                    metrics.countResult("degraded", domain, DEGRADED_MODEL_NAME);
+                    return Mono.just(scoreLocally(resumeText, job, Map.of(), DEGRADED_MODEL_NAME));
+                });
+        });
+    }
+
+    private MLEvaluationResponse scoreLocally(String resumeText, JobContext job, Map<String, Double> similarityScores,
+                                              String bestModelName) {
+        return job.skills() != null
+            ? scoringEngine.score(resumeText, job.skills(), similarityScores, bestModelName)
+            : scoringEngine.score(resumeText, job.text(), similarityScores, bestModelName);
     }
 
-    private Resume.EvaluationResult parseEvaluationResult(Map<String, Object> mlResponse) {
+    private Resume.EvaluationResult parseEvaluationResult(MLEvaluationResponse mlResponse) {
         Resume.EvaluationResult result = new Resume.EvaluationResult();
         
-        // Parse similarity scores
-        Map<String, Object> similarityScores = (Map<String, Object>) mlResponse.get("similarity_scores");
-        if (similarityScores != null) {
-            Map<String, Double> scores = new HashMap<>();
-            similarityScores.forEach((key, value) -> {
-                if (value instanceof Number) {
-                    scores.put(key, ((Number) value).doubleValue());
-                }
-            });
-            result.setSimilarityScores(scores);
-        }
+        // Scores are already typed by the decoder, so they are used as-is
+        result.setSimilarityScores(mlResponse.similarityScores());
         
-        // Parse ratios and scores
-        result.setSkillMatchRatio(((Number) mlResponse.getOrDefault("skill_match_ratio", 0.0)).doubleValue());
-        result.setExperienceMatchRatio(((Number) mlResponse.getOrDefault("experience_match_ratio", 0.0)).doubleValue());
-        result.setEducationMatchRatio(((Number) mlResponse.getOrDefault("education_match_ratio", 0.0)).doubleValue());
-        result.setFinalScore(((Number) mlResponse.getOrDefault("final_score", 0.0)).doubleValue());
+        // Ratios and scores
+        result.setSkillMatchRatio(mlResponse.skillMatchRatio());
+        result.setExperienceMatchRatio(mlResponse.experienceMatchRatio());
+        result.setEducationMatchRatio(mlResponse.educationMatchRatio());
+        result.setFinalScore(mlResponse.finalScore());
         
-        // Parse other fields
-        result.setBestModelName((String) mlResponse.getOrDefault("best_model_name", "unknown"));
-        result.setRecommendation((String) mlResponse.getOrDefault("recommendation", "Unknown"));
+        // Other fields
+        result.setBestModelName(mlResponse.bestModelName() != null ? mlResponse.bestModelName() : "unknown");
+        result.setRecommendation(mlResponse.recommendation() != null ? mlResponse.recommendation() : "Unknown");
         
-        // Parse matched and missing skills
-        List<String> matchedSkills = (List<String>) mlResponse.get("matched_skills");
-        List<String> missingSkills = (List<String>) mlResponse.get("missing_skills");
-        result.setMatchedSkills(matchedSkills != null ? matchedSkills : new ArrayList<>());
-        result.setMissingSkills(missingSkills != null ? missingSkills : new ArrayList<>());
+        // Matched and missing skills
+        result.setMatchedSkills(orEmpty(mlResponse.matchedSkills()));
+        result.setMissingSkills(orEmpty(mlResponse.missingSkills()));
         
-        // Parse feature importances
-        Map<String, Object> featureImportances = (Map<String, Object>) mlResponse.get("feature_importances");
-        if (featureImportances != null) {
-            Map<String, Double> importances = new HashMap<>();
-            featureImportances.forEach((key, value) -> {
-                if (value instanceof Number) {
-                    importances.put(key, ((Number) value).doubleValue());
-                }
-            });
-            result.setFeatureImportances(importances);
-        }
+        // Feature importances
+        result.setFeatureImportances(mlResponse.featureImportances());
         
         return result;
     }
 
-    private Resume.ParsedEntities parseParsedEntities(Map<String, Object> mlResponse) {
+    private Resume.ParsedEntities parseParsedEntities(MLEvaluationResponse mlResponse, String resumeText) {
         Resume.ParsedEntities entities = new Resume.ParsedEntities();
+
+        // Skills always come from the taxonomy extractor so they are consistent across scoring modes
+        entities.setSkills(skillExtractor.extractSkills(resumeText));
         
-        Map<String, Object> parsedEntities = (Map<String, Object>) mlResponse.get("parsed_entities");
+        MLEvaluationResponse.ParsedEntities parsedEntities = mlResponse.parsedEntities();
         if (parsedEntities != null) {
-            // Parse skills
-            List<String> skills = (List<String>) parsedEntities.get("skills");
-            entities.setSkills(skills != null ? skills : new ArrayList<>());
-            
-            // Parse job titles
-            List<String> jobTitles = (List<String>) parsedEntities.get("job_titles");
-            entities.setJobTitles(jobTitles != null ? jobTitles : new ArrayList<>());
-            
-            // Parse companies
-            List<String> companies = (List<String>) parsedEntities.get("companies");
-            entities.setCompanies(companies != null ? companies : new ArrayList<>());
-            
-            // Parse education
-            List<String> education = (List<String>) parsedEntities.get("education");
-            entities.setEducation(education != null ? education : new ArrayList<>());
-            
-            // Parse experience years
-            entities.setExperienceYears(((Number) parsedEntities.getOrDefault("experience_years", 0)).intValue());
-            
-            // Parse raw text
-            entities.setRawText((String) parsedEntities.get("raw_text"));
+            entities.setJobTitles(orEmpty(parsedEntities.jobTitles()));
+            entities.setCompanies(orEmpty(parsedEntities.companies()));
+            entities.setEducation(orEmpty(parsedEntities.education()));
+            entities.setExperienceYears(parsedEntities.experienceYears());
         }
         
         return entities;
     }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values != null ? values : new ArrayList<>();
+    }
+
+    private record ResumeDocument(String fileName, String text) {}
+
+    // skills is null unless the text came from a stored job
+    private record JobContext(String id, String text, String domain, List<String> skills) {
+
+        boolean storedText() {
+            return id != null && skills != null;
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.resumematcher.service;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+// Content-addressed, deflate-compressed text blobs in GridFS. The reference is the SHA-256 of
+// the UTF-8 text, so the same resume uploaded many times is stored once.
+@Component
+public class TextBlobStore {
+
+    private static final String CONTENT_TYPE = "application/octet-stream";
+    private static final String ENCODING = "deflate";
+
+    @Autowired
+    private GridFsTemplate gridFsTemplate;
+
+    @Value("${resume.text-store.compression-level:6}")
+    private int compressionLevel;
+
+    public String store(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        String ref = sha256(bytes);
+        if (gridFsTemplate.findOne(query(where("filename").is(ref))) != null) {
+            return ref;
+        }
+
+        Document metadata = new Document("encoding", ENCODING).append("length", bytes.length);
+        gridFsTemplate.store(new ByteArrayInputStream(compress(bytes)), ref, CONTENT_TYPE, metadata);
+        return ref;
+    }
+
+    public Optional<String> load(String ref) {
+        GridFSFile file = gridFsTemplate.findOne(query(where("filename").is(ref)));
+        if (file == null) {
+            return Optional.empty();
+        }
+        GridFsResource resource = gridFsTemplate.getResource(file);
+        try (InputStream in = new InflaterInputStream(resource.getInputStream())) {
+            return Optional.of(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading text blob " + ref + ": " + e.getMessage(), e);
+        }
+    }
+
+    byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 3));
+        Deflater deflater = new Deflater(compressionLevel);
+        try (DeflaterOutputStream deflating = new DeflaterOutputStream(out, deflater)) {
+            deflating.write(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException("Error compressing text: " + e.getMessage(), e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
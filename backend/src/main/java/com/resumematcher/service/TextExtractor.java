@@ -0,0 +1,163 @@
+package com.resumematcher.service;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.pdf.PDFParserConfig;
+import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.sax.ContentHandlerDecorator;
+import org.apache.tika.sax.WriteOutContentHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Extracts plain text from resume uploads (PDF, DOCX/DOC, RTF, HTML, plain text) with Tika.
+// Input is streamed, never read into a byte array: PDFs are spooled to a temp file by
+// TikaInputStream and PDFBox keeps at most max-parser-memory in the heap. Output stops at
+// max-characters and, for paged formats, max-pages. Parsing runs on its own bounded pool so a
+// burst of large documents cannot take every request thread; a full pool rejects the upload.
+@Component
+public class TextExtractor {
+
+    private final AutoDetectParser parser = new AutoDetectParser();
+    private final ThreadPoolExecutor executor;
+    private final int maxCharacters;
+    private final int maxPages;
+    private final long maxParserMemory;
+    private final Duration timeout;
+
+    public TextExtractor(@Value("${resume.extraction.threads:4}") int threads,
+                         @Value("${resume.extraction.queue-capacity:64}") int queueCapacity,
+                         @Value("${resume.extraction.max-characters:200000}") int maxCharacters,
+                         @Value("${resume.extraction.max-pages:50}") int maxPages,
+                         @Value("${resume.extraction.max-parser-memory:16MB}") DataSize maxParserMemory,
+                         @Value("${resume.extraction.timeout:30s}") Duration timeout) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "text-extraction-" + threadNumber.incrementAndGet()),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.maxCharacters = maxCharacters;
+        this.maxPages = maxPages;
+        this.maxParserMemory = maxParserMemory.toBytes();
+        this.timeout = timeout;
+    }
+
+    // Throws RejectedExecutionException when the extraction pool is saturated
+    public String extract(String fileName, InputStreamSource source) {
+        Future<String> result = executor.submit(() -> parse(fileName, source));
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Interrupting does not stop a parse blocked inside Tika or PDFBox, which mostly ignore it; the
+            // worker stays busy until the parse finishes or hits max-characters or max-pages, and the
+            // bounded pool rejects new uploads meanwhile rather than queueing behind it
+            result.cancel(true);
+            throw new RuntimeException("Timed out extracting text from " + fileName, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error extracting text from " + fileName + ": " + e.getCause().getMessage(),
+                e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted extracting text from " + fileName, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    String parse(String fileName, InputStreamSource source) throws Exception {
+        // Plain text skips type detection and is decoded as UTF-8, as before
+        if (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".txt")) {
+            try (Reader reader = new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8)) {
+                StringBuilder text = new StringBuilder();
+                char[] buffer = new char[8192];
+                int read;
+                while (text.length() < maxCharacters
+                        && (read = reader.read(buffer, 0, Math.min(buffer.length, maxCharacters - text.length()))) != -1) {
+                    text.append(buffer, 0, read);
+                }
+                return text.toString();
+            }
+        }
+
+        StringWriter text = new StringWriter();
+        ContentHandler handler = new BodyContentHandler(
+            new PageLimitHandler(new WriteOutContentHandler(text, maxCharacters), maxPages));
+        Metadata metadata = new Metadata();
+        metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+        // Embedded documents are skipped because no Parser is registered in the context
+        ParseContext context = new ParseContext();
+        PDFParserConfig pdfConfig = new PDFParserConfig();
+        pdfConfig.setExtractInlineImages(false);
+        pdfConfig.setMaxMainMemoryBytes(maxParserMemory);
+        context.set(PDFParserConfig.class, pdfConfig);
+
+        try (InputStream in = TikaInputStream.get(source.getInputStream())) {
+            parser.parse(in, handler, metadata, context);
+        } catch (Exception e) {
+            // Hitting a cap ends the parse early; the text up to that point is kept
+            if (!isLimitReached(e)) {
+                throw e;
+            }
+        }
+        return text.toString().strip();
+    }
+
+    private static boolean isLimitReached(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PageLimitReachedException || WriteLimitReachedException.isWriteLimitReached(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Tika marks each page of a paged format with <div class="page">
+    private static final class PageLimitHandler extends ContentHandlerDecorator {
+
+        private final int maxPages;
+        private int pages;
+
+        PageLimitHandler(ContentHandler handler, int maxPages) {
+            super(handler);
+            this.maxPages = maxPages;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
+            if ("div".equals(localName) && "page".equals(attributes.getValue("class")) && ++pages > maxPages) {
+                throw new PageLimitReachedException();
+            }
+            super.startElement(uri, localName, name, attributes);
+        }
+    }
+
+    private static final class PageLimitReachedException extends SAXException {
+    }
+}
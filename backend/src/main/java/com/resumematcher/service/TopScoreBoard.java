@@ -0,0 +1,80 @@
+package com.resumematcher.service;
+
+import com.resumematcher.dto.ResumeSummary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+// The best `capacity` resumes of one leaderboard, ordered by (finalScore desc, id desc) so a
+// (score, id) cursor can resume exactly where the previous page ended. Offers are O(log K) and
+// a page read touches only the entries it returns.
+public class TopScoreBoard {
+
+    public static final Comparator<ResumeSummary> BEST_FIRST = Comparator
+        .comparing(ResumeSummary::finalScore, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(ResumeSummary::id, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final TreeSet<ResumeSummary> ranked = new TreeSet<>(BEST_FIRST);
+    private final Map<String, ResumeSummary> byId = new HashMap<>();
+    private boolean seeded;
+
+    public TopScoreBoard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void offer(ResumeSummary resume) {
+        if (resume.id() == null || resume.finalScore() == null) {
+            return;
+        }
+        ResumeSummary previous = byId.put(resume.id(), resume);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+        ranked.add(resume);
+        if (ranked.size() > capacity) {
+            byId.remove(ranked.pollLast().id());
+        }
+    }
+
+    // Loads the initial entries once; offers made while loading are kept
+    public synchronized void seedIfNeeded(Supplier<Collection<ResumeSummary>> loader) {
+        if (!seeded) {
+            for (ResumeSummary resume : loader.get()) {
+                if (!byId.containsKey(resume.id())) {
+                    offer(resume);
+                }
+            }
+            seeded = true;
+        }
+    }
+
+    // Entries strictly after the cursor entry (or from the top when it is null)
+    public synchronized List<ResumeSummary> page(ResumeSummary after, int limit) {
+        NavigableSet<ResumeSummary> tail = after == null ? ranked : ranked.tailSet(after, false);
+        List<ResumeSummary> page = new ArrayList<>(Math.min(limit, tail.size()));
+        for (ResumeSummary resume : tail) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(resume);
+        }
+        return page;
+    }
+
+    // A full board may have dropped lower-ranked resumes that still exist in Mongo
+    public synchronized boolean isTruncated() {
+        return ranked.size() >= capacity;
+    }
+
+    public synchronized int size() {
+        return ranked.size();
+    }
+}
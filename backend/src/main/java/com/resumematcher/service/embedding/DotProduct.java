@@ -0,0 +1,7 @@
+package com.resumematcher.service.embedding;
+
+// Dot product over a slice of two float arrays
+interface DotProduct {
+
+    float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+}
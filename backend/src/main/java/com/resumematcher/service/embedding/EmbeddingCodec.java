@@ -0,0 +1,63 @@
+package com.resumematcher.service.embedding;
+
+import com.resumematcher.model.Job;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+
+// Job embeddings are stored as little-endian float32 bytes (a BSON binary per model): 4 bytes per
+// dimension instead of ~13 for a BSON array of doubles, and no boxing when decoded.
+public final class EmbeddingCodec {
+
+    private EmbeddingCodec() {
+    }
+
+    public static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    public static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    public static Map<String, byte[]> encodeAll(Map<String, float[]> vectors) {
+        Map<String, byte[]> encoded = new HashMap<>();
+        vectors.forEach((model, vector) -> {
+            if (vector != null && vector.length > 0) {
+                encoded.put(model, encode(vector));
+            }
+        });
+        return encoded;
+    }
+
+    // Raw vectors per model; the compact form wins over the legacy List<Double> field
+    public static Map<String, float[]> vectors(Job job) {
+        Map<String, float[]> vectors = new HashMap<>();
+        if (job.getJobEmbeddings() != null) {
+            job.getJobEmbeddings().forEach((model, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    vectors.put(model, VectorOps.toFloatArray(values));
+                }
+            });
+        }
+        if (job.getEmbeddingVectors() != null) {
+            job.getEmbeddingVectors().forEach((model, bytes) -> {
+                if (bytes != null && bytes.length > 0) {
+                    vectors.put(model, decode(bytes));
+                }
+            });
+        }
+        return vectors;
+    }
+
+    public static boolean hasEmbeddings(Job job) {
+        return (job.getEmbeddingVectors() != null && !job.getEmbeddingVectors().isEmpty())
+            || (job.getJobEmbeddings() != null && !job.getJobEmbeddings().isEmpty());
+    }
+}
@@ -0,0 +1,528 @@
+package com.resumematcher.service.embedding;
+
+import com.resumematcher.model.Job;
+import com.resumematcher.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+// In-memory job index for ranking: every job gets a slot, and each embedding model keeps its
+// unit-normalised job vectors in one contiguous float[] (slot * dimensions). 100k jobs x 768 dims
+// is ~300MB instead of ~2GB of boxed List<Double>.
+@Component
+public class EmbeddingStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingStore.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int SNAPSHOT_MAGIC = 0x524D4553; // "RMES"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    // Blank disables snapshots
+    @Value("${matching.snapshot.path:data/embedding-store.bin}")
+    private String snapshotPath;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotsByJobId = new HashMap<>();
+    private final Map<String, ModelMatrix> matrices = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private JobEntry[] entries = new JobEntry[INITIAL_CAPACITY];
+    private int slotCount;
+    // Newest createdAt/updatedAt seen; writes after it are replayed from Mongo when starting from a snapshot
+    private LocalDateTime watermark;
+    private volatile boolean dirty;
+
+    public interface SlotAccumulator<A> {
+        void accept(A accumulator, JobEntry entry, float bestSimilarity);
+    }
+
+    public interface JobVisitor {
+        void visit(JobEntry entry, Map<String, float[]> normalizedVectors);
+    }
+
+    // One model's vectors, for indexes that address jobs by slot instead of keeping their own copy.
+    // array() is the current backing array (unit vectors at slot * dimensions); it is replaced when
+    // the store grows, so read it once per operation rather than caching it.
+    public interface SlotVectors {
+        int dimensions();
+
+        float[] array();
+    }
+
+    // Runs before listeners that build on the store (e.g. the HNSW index)
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long start = System.nanoTime();
+        boolean restored = hasSnapshotPath() && restoreSnapshot(Path.of(snapshotPath));
+        try {
+            if (restored) {
+                catchUp();
+            } else {
+                List<Job> jobs = jobRepository.findAll();
+                jobs.forEach(this::upsert);
+            }
+            logger.info("Loaded {} jobs into the embedding store in {} ms (snapshot: {}, SIMD: {})",
+                size(), (System.nanoTime() - start) / 1_000_000, restored, VectorOps.isSimdEnabled());
+            snapshot();
+        } catch (Exception e) {
+            logger.warn("Could not load jobs into the embedding store: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void snapshot() {
+        if (!hasSnapshotPath() || !dirty) {
+            return;
+        }
+        try {
+            writeSnapshot(Path.of(snapshotPath));
+        } catch (IOException e) {
+            logger.warn("Could not write embedding store snapshot to {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private boolean hasSnapshotPath() {
+        return snapshotPath != null && !snapshotPath.isBlank();
+    }
+
+    // Applies writes made after the snapshot: new and updated jobs via the watermark, deletes by
+    // diffing against an id-only projection of the collection
+    private void catchUp() {
+        LocalDateTime since = watermark;
+        List<Job> recent = since != null
+            ? jobRepository.findByCreatedAtGreaterThanEqualOrUpdatedAtGreaterThanEqual(since, since)
+            : jobRepository.findAll();
+        // The newest snapshotted jobs come back too (>= keeps ties on the watermark); skip those
+        recent.removeIf(job -> since != null && since.equals(lastWrite(job)) && get(job.getId()) != null);
+        recent.forEach(this::upsert);
+
+        Set<String> liveIds = new HashSet<>();
+        jobRepository.findAllIds().forEach(job -> liveIds.add(job.getId()));
+        List<String> stale = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            slotsByJobId.keySet().stream().filter(id -> !liveIds.contains(id)).forEach(stale::add);
+        } finally {
+            lock.readLock().unlock();
+        }
+        stale.forEach(this::remove);
+        logger.info("Embedding store catch-up since {}: {} upserted, {} removed", since, recent.size(), stale.size());
+    }
+
+    public void upsert(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            dirty = true;
+            LocalDateTime written = lastWrite(job);
+            if (written != null && (watermark == null || written.isAfter(watermark))) {
+                watermark = written;
+            }
+            Integer existing = slotsByJobId.get(job.getId());
+            int slot = existing != null ? existing : allocateSlot();
+            slotsByJobId.put(job.getId(), slot);
+            entries[slot] = JobEntry.from(job);
+
+            // Clear any vectors from a previous version of this job before writing the new ones
+            matrices.values().forEach(matrix -> matrix.present.clear(slot));
+            EmbeddingCodec.vectors(job).forEach((model, values) -> {
+                float[] normalized = VectorOps.normalize(values);
+                if (normalized != null) {
+                    matrices.computeIfAbsent(model, name -> new ModelMatrix(normalized.length))
+                        .set(slot, normalized, entries.length);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static LocalDateTime lastWrite(Job job) {
+        if (job.getUpdatedAt() == null) {
+            return job.getCreatedAt();
+        }
+        return job.getCreatedAt() == null || job.getUpdatedAt().isAfter(job.getCreatedAt())
+            ? job.getUpdatedAt() : job.getCreatedAt();
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByJobId.remove(jobId);
+            if (slot != null) {
+                dirty = true;
+                entries[slot] = null;
+                matrices.values().forEach(matrix -> matrix.present.clear(slot));
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByJobId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public JobEntry get(String jobId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByJobId.get(jobId);
+            return slot != null ? entries[slot] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Visits every job with copies of its unit vectors per model
+    public void forEach(JobVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (entries[slot] == null) {
+                    continue;
+                }
+                Map<String, float[]> vectors = new HashMap<>();
+                for (Map.Entry<String, ModelMatrix> matrix : matrices.entrySet()) {
+                    if (matrix.getValue().present.get(slot)) {
+                        vectors.put(matrix.getKey(), matrix.getValue().vector(slot));
+                    }
+                }
+                visitor.visit(entries[slot], vectors);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Copies of the unit vectors of one job, by model; empty when the job is unknown
+    public Map<String, float[]> vectors(String jobId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByJobId.get(jobId);
+            Map<String, float[]> vectors = new HashMap<>();
+            if (slot != null) {
+                matrices.forEach((model, matrix) -> {
+                    if (matrix.present.get(slot)) {
+                        vectors.put(model, matrix.vector(slot));
+                    }
+                });
+            }
+            return vectors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Slot holding the job's vectors, or -1 when the job is unknown. A removed job's slot is reused
+    // by a later insert, so holders of a slot must follow the store's upserts and removes.
+    public int slot(String jobId) {
+        lock.readLock().lock();
+        try {
+            return slotsByJobId.getOrDefault(jobId, -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Models with a vector for the job; empty when the job is unknown
+    public Set<String> models(String jobId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByJobId.get(jobId);
+            Set<String> models = new HashSet<>();
+            if (slot != null) {
+                matrices.forEach((model, matrix) -> {
+                    if (matrix.present.get(slot)) {
+                        models.add(model);
+                    }
+                });
+            }
+            return models;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Null when no job has a vector for the model yet; the view stays valid as the store grows
+    public SlotVectors slotVectors(String model) {
+        lock.readLock().lock();
+        try {
+            return matrices.get(model);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<String> models() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(matrices.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Brute-force scan of every stored job (optionally one domain). Queries are unit-normalised
+    // vectors per model; each job is reported with its best cosine similarity across those models.
+    // Runs as a parallel stream, so callers control parallelism by choosing the pool they call from.
+    public <A> A scan(Map<String, float[]> normalizedQueries, String domain, Supplier<A> supplier,
+                      SlotAccumulator<A> accumulator, BiConsumer<A, A> combiner) {
+        lock.readLock().lock();
+        try {
+            JobEntry[] slots = entries;
+            ModelQuery[] queries = normalizedQueries.entrySet().stream()
+                .filter(query -> matrices.containsKey(query.getKey()))
+                .filter(query -> query.getValue().length == matrices.get(query.getKey()).dimensions)
+                .map(query -> new ModelQuery(matrices.get(query.getKey()), query.getValue()))
+                .toArray(ModelQuery[]::new);
+
+            return IntStream.range(0, slotCount).parallel().collect(supplier, (result, slot) -> {
+                JobEntry entry = slots[slot];
+                if (entry == null || (domain != null && !domain.equals(entry.domain()))) {
+                    return;
+                }
+                float best = 0f;
+                for (ModelQuery query : queries) {
+                    if (query.matrix.present.get(slot)) {
+                        best = Math.max(best, query.matrix.similarity(slot, query.vector));
+                    }
+                }
+                accumulator.accept(result, entry, best);
+            }, combiner);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Layout (little-endian): magic, version, watermark, job metadata in slot order, then per model
+    // its dimensions and, for every job, a presence byte followed by the unit vector
+    void writeSnapshot(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "embedding-store-", ".tmp");
+        try {
+            lock.readLock().lock();
+            try (SnapshotWriter writer = new SnapshotWriter(temp)) {
+                dirty = false;
+                writer.putInt(SNAPSHOT_MAGIC);
+                writer.putInt(SNAPSHOT_VERSION);
+                writer.putLong(watermark != null ? watermark.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE);
+                writer.putInt(watermark != null ? watermark.getNano() : 0);
+
+                int[] slots = IntStream.range(0, slotCount).filter(slot -> entries[slot] != null).toArray();
+                writer.putInt(slots.length);
+                for (int slot : slots) {
+                    JobEntry entry = entries[slot];
+                    writer.putString(entry.jobId());
+                    writer.putString(entry.title());
+                    writer.putString(entry.company());
+                    writer.putString(entry.location());
+                    writer.putString(entry.domain());
+                    writer.putInt(entry.requiredSkills().size());
+                    for (String skill : entry.requiredSkills()) {
+                        writer.putString(skill);
+                    }
+                }
+
+                writer.putInt(matrices.size());
+                for (Map.Entry<String, ModelMatrix> model : matrices.entrySet()) {
+                    ModelMatrix matrix = model.getValue();
+                    writer.putString(model.getKey());
+                    writer.putInt(matrix.dimensions);
+                    for (int slot : slots) {
+                        boolean present = matrix.present.get(slot);
+                        writer.putByte((byte) (present ? 1 : 0));
+                        if (present) {
+                            writer.putFloats(matrix.vectors, slot * matrix.dimensions, matrix.dimensions);
+                        }
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            dirty = true;
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // Replaces the store contents with a snapshot; false (and an empty store) if it is missing or unreadable
+    boolean restoreSnapshot(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try (SnapshotReader reader = new SnapshotReader(path)) {
+            clear();
+            if (reader.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("not an embedding store snapshot");
+            }
+            int version = reader.getInt();
+            if (version != SNAPSHOT_VERSION) {
+                throw new IOException("unsupported snapshot version " + version);
+            }
+            long seconds = reader.getLong();
+            int nanos = reader.getInt();
+            watermark = seconds == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+
+            int jobCount = reader.getInt();
+            entries = new JobEntry[Math.max(INITIAL_CAPACITY, jobCount)];
+            for (int slot = 0; slot < jobCount; slot++) {
+                String jobId = reader.getString();
+                String title = reader.getString();
+                String company = reader.getString();
+                String location = reader.getString();
+                String domain = reader.getString();
+                String[] skills = new String[reader.getInt()];
+                for (int i = 0; i < skills.length; i++) {
+                    skills[i] = reader.getString();
+                }
+                entries[slot] = new JobEntry(jobId, title, company, location, domain, List.of(skills));
+                slotsByJobId.put(jobId, slot);
+            }
+            slotCount = jobCount;
+
+            int modelCount = reader.getInt();
+            for (int i = 0; i < modelCount; i++) {
+                String model = reader.getString();
+                ModelMatrix matrix = new ModelMatrix(reader.getInt());
+                matrix.ensureCapacity(entries.length);
+                for (int slot = 0; slot < jobCount; slot++) {
+                    if (reader.getByte() != 0) {
+                        reader.getFloats(matrix.vectors, slot * matrix.dimensions, matrix.dimensions);
+                        matrix.present.set(slot);
+                    }
+                }
+                matrices.put(model, matrix);
+            }
+            dirty = false;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable embedding store snapshot {}: {}", path, e.getMessage());
+            clear();
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear() {
+        slotsByJobId.clear();
+        matrices.clear();
+        freeSlots.clear();
+        entries = new JobEntry[INITIAL_CAPACITY];
+        slotCount = 0;
+        watermark = null;
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (slotCount == entries.length) {
+            int capacity = entries.length * 2;
+            entries = Arrays.copyOf(entries, capacity);
+            matrices.values().forEach(matrix -> matrix.ensureCapacity(capacity));
+        }
+        return slotCount++;
+    }
+
+    public record JobEntry(String jobId, String title, String company, String location, String domain,
+                           List<String> requiredSkills) {
+
+        static JobEntry from(Job job) {
+            return new JobEntry(job.getId(), job.getTitle(), job.getCompany(), job.getLocation(), job.getDomain(),
+                job.getRequiredSkills() != null ? List.copyOf(job.getRequiredSkills()) : List.of());
+        }
+    }
+
+    private record ModelQuery(ModelMatrix matrix, float[] vector) {}
+
+    private static final class ModelMatrix implements SlotVectors {
+
+        private final int dimensions;
+        private final BitSet present = new BitSet();
+        // Volatile for HNSW graphs, which read it outside the store lock
+        private volatile float[] vectors = new float[0];
+
+        private ModelMatrix(int dimensions) {
+            this.dimensions = dimensions;
+        }
+
+        @Override
+        public int dimensions() {
+            return dimensions;
+        }
+
+        @Override
+        public float[] array() {
+            return vectors;
+        }
+
+        private void set(int slot, float[] vector, int capacity) {
+            if (vector.length != dimensions) {
+                return;
+            }
+            ensureCapacity(capacity);
+            System.arraycopy(vector, 0, vectors, slot * dimensions, dimensions);
+            present.set(slot);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (vectors.length < capacity * dimensions) {
+                vectors = Arrays.copyOf(vectors, capacity * dimensions);
+            }
+        }
+
+        private float[] vector(int slot) {
+            return Arrays.copyOfRange(vectors, slot * dimensions, (slot + 1) * dimensions);
+        }
+
+        private float similarity(int slot, float[] query) {
+            return VectorOps.dot(vectors, slot * dimensions, query, 0, dimensions);
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package com.resumematcher.service.embedding;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.function.ToIntFunction;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Hierarchical Navigable Small World graph (Malkov & Yashunin) over unit vectors, using the dot
+// product as similarity. Deletes are tombstones: the node keeps routing searches but is never
+// returned. Thread-safe: inserts and deletes take a write lock, searches a read lock.
+//
+// Nodes do not copy their vectors: each one refers to a slot of the EmbeddingStore matrix for the
+// graph's model. A tombstone's slot may be reused by a later job, which only makes it a less
+// accurate waypoint until the graph is rebuilt. Nodes restored without a slot (their job is
+// gone) have slot -1 and never look similar to anything.
+public class HnswGraph {
+
+    private static final int FORMAT_VERSION = 2;
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    private final EmbeddingStore.SlotVectors storage;
+    private final int dimensions;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> nodeByKey = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private String[] keys = new String[16];
+    private int[][][] neighbors = new int[16][][];
+    private int[] slots = new int[16];
+    // Hash of the vector a node was linked with, to spot a slot whose vector has since changed
+    private int[] fingerprints = new int[16];
+    private int size;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public record Result(String key, float similarity) {}
+
+    public record Node(int slot, int fingerprint) {}
+
+    private record Candidate(int node, float similarity) {}
+
+    private static final Comparator<Candidate> NEAREST_FIRST =
+        Comparator.comparingDouble(Candidate::similarity).reversed();
+    private static final Comparator<Candidate> FURTHEST_FIRST =
+        Comparator.comparingDouble(Candidate::similarity);
+
+    public HnswGraph(EmbeddingStore.SlotVectors storage, int m, int efConstruction, long seed) {
+        this.storage = storage;
+        this.dimensions = storage.dimensions();
+        this.m = m;
+        this.maxM0 = 2 * m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1.0 / Math.log(Math.max(m, 2));
+        this.random = new SplittableRandom(seed);
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int m() {
+        return m;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return size == 0 ? 0.0 : (double) deletedCount / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String key) {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> keys() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(nodeByKey.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Live nodes by key (for rebuilding without tombstones)
+    public Map<String, Node> liveNodes() {
+        lock.readLock().lock();
+        try {
+            Map<String, Node> live = new HashMap<>(nodeByKey.size() * 2);
+            nodeByKey.forEach((key, node) -> live.put(key, new Node(slots[node], fingerprints[node])));
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Node node(String key) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByKey.get(key);
+            return node == null ? null : new Node(slots[node], fingerprints[node]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // True when the key is live at this slot and was linked with the vector the slot holds now
+    public boolean isCurrent(String key, int slot) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByKey.get(key);
+            return node != null && slots[node] == slot
+                && fingerprints[node] == fingerprint(storage.array(), slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void insert(String key, int slot) {
+        lock.writeLock().lock();
+        try {
+            float[] data = storage.array();
+            // Updates are a tombstone plus a fresh node
+            removeLocked(key);
+
+            int node = allocate(key, slot, fingerprint(data, slot), randomLevel());
+            nodeByKey.put(key, node);
+            int level = neighbors[node].length - 1;
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int layer = maxLevel; layer > level; layer--) {
+                current = greedyClosest(data, node, current, layer);
+            }
+            List<Candidate> entryPoints = List.of(new Candidate(current, similarity(data, node, current)));
+            for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+                PriorityQueue<Candidate> found = searchLayer(data, data, slot * dimensions, entryPoints, efConstruction, layer);
+                List<Candidate> sorted = new ArrayList<>(found);
+                sorted.sort(NEAREST_FIRST);
+                int[] selected = selectNeighbors(data, sorted, m);
+                neighbors[node][layer] = selected;
+                for (int neighbor : selected) {
+                    connect(data, neighbor, node, layer);
+                }
+                entryPoints = sorted;
+            }
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String key) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Result> search(float[] unitQuery, int k, int efSearch) {
+        if (unitQuery.length != dimensions || k <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0) {
+                return List.of();
+            }
+            float[] data = storage.array();
+            int current = entryPoint;
+            float currentSimilarity = dot(data, unitQuery, 0, current);
+            for (int layer = maxLevel; layer > 0; layer--) {
+                boolean changed = true;
+                while (changed) {
+                    changed = false;
+                    for (int neighbor : neighborsOf(current, layer)) {
+                        float candidate = dot(data, unitQuery, 0, neighbor);
+                        if (candidate > currentSimilarity) {
+                            currentSimilarity = candidate;
+                            current = neighbor;
+                            changed = true;
+                        }
+                    }
+                }
+            }
+
+            // Widen the beam to make up for tombstones that cannot be returned
+            int ef = Math.max(efSearch, k) + Math.min(deletedCount, Math.max(efSearch, k));
+            PriorityQueue<Candidate> found = searchLayer(data, unitQuery, 0,
+                List.of(new Candidate(current, currentSimilarity)), ef, 0);
+            List<Candidate> sorted = new ArrayList<>(found);
+            sorted.sort(NEAREST_FIRST);
+
+            List<Result> results = new ArrayList<>(k);
+            for (Candidate candidate : sorted) {
+                if (!deleted.get(candidate.node())) {
+                    results.add(new Result(keys[candidate.node()], candidate.similarity()));
+                    if (results.size() == k) {
+                        break;
+                    }
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(dimensions);
+            out.writeInt(m);
+            out.writeInt(efConstruction);
+            out.writeInt(size);
+            out.writeInt(entryPoint);
+            out.writeInt(maxLevel);
+            for (int node = 0; node < size; node++) {
+                out.writeUTF(keys[node]);
+                out.writeBoolean(deleted.get(node));
+                out.writeInt(fingerprints[node]);
+                out.writeInt(neighbors[node].length);
+                for (int[] layer : neighbors[node]) {
+                    out.writeInt(layer.length);
+                    for (int neighbor : layer) {
+                        out.writeInt(neighbor);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Vectors are not part of the snapshot: slotOf maps each key to its slot in storage (-1 if gone)
+    public static HnswGraph readFrom(DataInputStream in, long seed, EmbeddingStore.SlotVectors storage,
+                                     ToIntFunction<String> slotOf) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported HNSW snapshot version " + version);
+        }
+        int dimensions = in.readInt();
+        if (dimensions != storage.dimensions()) {
+            throw new IOException("Snapshot has " + dimensions + " dimensions, store has " + storage.dimensions());
+        }
+        int m = in.readInt();
+        int efConstruction = in.readInt();
+        HnswGraph graph = new HnswGraph(storage, m, efConstruction, seed);
+        int count = in.readInt();
+        graph.ensureCapacity(count);
+        graph.size = count;
+        graph.entryPoint = in.readInt();
+        graph.maxLevel = in.readInt();
+        for (int node = 0; node < count; node++) {
+            graph.keys[node] = in.readUTF();
+            if (in.readBoolean()) {
+                graph.deleted.set(node);
+                graph.deletedCount++;
+            } else {
+                graph.nodeByKey.put(graph.keys[node], node);
+            }
+            graph.slots[node] = slotOf.applyAsInt(graph.keys[node]);
+            graph.fingerprints[node] = in.readInt();
+            int[][] layers = new int[in.readInt()][];
+            for (int layer = 0; layer < layers.length; layer++) {
+                layers[layer] = new int[in.readInt()];
+                for (int i = 0; i < layers[layer].length; i++) {
+                    layers[layer][i] = in.readInt();
+                }
+            }
+            graph.neighbors[node] = layers;
+        }
+        return graph;
+    }
+
+    private boolean removeLocked(String key) {
+        Integer node = nodeByKey.remove(key);
+        if (node == null) {
+            return false;
+        }
+        deleted.set(node);
+        deletedCount++;
+        return true;
+    }
+
+    private int allocate(String key, int slot, int fingerprint, int level) {
+        ensureCapacity(size + 1);
+        int node = size++;
+        keys[node] = key;
+        slots[node] = slot;
+        fingerprints[node] = fingerprint;
+        int[][] layers = new int[level + 1][];
+        Arrays.fill(layers, NO_NEIGHBORS);
+        neighbors[node] = layers;
+        return node;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newCapacity = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newCapacity);
+            neighbors = Arrays.copyOf(neighbors, newCapacity);
+            slots = Arrays.copyOf(slots, newCapacity);
+            fingerprints = Arrays.copyOf(fingerprints, newCapacity);
+        }
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble();
+        return (int) Math.floor(-Math.log(uniform) * levelMultiplier);
+    }
+
+    private int greedyClosest(float[] data, int node, int start, int layer) {
+        int current = start;
+        float currentSimilarity = similarity(data, node, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int neighbor : neighborsOf(current, layer)) {
+                float candidate = similarity(data, node, neighbor);
+                if (candidate > currentSimilarity) {
+                    currentSimilarity = candidate;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Beam search on one layer; returns up to ef nearest nodes (furthest at the head)
+    private PriorityQueue<Candidate> searchLayer(float[] data, float[] query, int queryOffset,
+                                                 List<Candidate> entryPoints, int ef, int layer) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(NEAREST_FIRST);
+        PriorityQueue<Candidate> found = new PriorityQueue<>(FURTHEST_FIRST);
+        for (Candidate entry : entryPoints) {
+            if (!visited.get(entry.node())) {
+                visited.set(entry.node());
+                candidates.add(entry);
+                found.add(entry);
+            }
+        }
+        while (found.size() > ef) {
+            found.poll();
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+            if (found.size() >= ef && closest.similarity() < found.peek().similarity()) {
+                break;
+            }
+            for (int neighbor : neighborsOf(closest.node(), layer)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float similarity = dot(data, query, queryOffset, neighbor);
+                if (found.size() < ef || similarity > found.peek().similarity()) {
+                    Candidate candidate = new Candidate(neighbor, similarity);
+                    candidates.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // Neighbour-selection heuristic: skip a candidate that is closer to an already selected
+    // neighbour than to the base node, which keeps links spread across clusters. Pruned
+    // candidates back-fill up to maxNeighbors.
+    private int[] selectNeighbors(float[] data, List<Candidate> nearestFirst, int maxNeighbors) {
+        int[] selected = new int[Math.min(maxNeighbors, nearestFirst.size())];
+        int count = 0;
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : nearestFirst) {
+            if (count == selected.length) {
+                break;
+            }
+            boolean diverse = true;
+            for (int i = 0; i < count; i++) {
+                if (similarity(data, candidate.node(), selected[i]) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidate.node();
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && count < selected.length; i++) {
+            selected[count++] = pruned.get(i).node();
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private void connect(float[] data, int node, int neighbor, int layer) {
+        int[] current = neighborsOf(node, layer);
+        int maxNeighbors = layer == 0 ? maxM0 : m;
+        int[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = neighbor;
+        if (updated.length > maxNeighbors) {
+            List<Candidate> candidates = new ArrayList<>(updated.length);
+            for (int candidate : updated) {
+                candidates.add(new Candidate(candidate, similarity(data, node, candidate)));
+            }
+            candidates.sort(NEAREST_FIRST);
+            updated = selectNeighbors(data, candidates, maxNeighbors);
+        }
+        neighbors[node][layer] = updated;
+    }
+
+    private int[] neighborsOf(int node, int layer) {
+        int[][] layers = neighbors[node];
+        return layer < layers.length ? layers[layer] : NO_NEIGHBORS;
+    }
+
+    private float similarity(float[] data, int a, int b) {
+        return slots[a] < 0 ? Float.NEGATIVE_INFINITY : dot(data, data, slots[a] * dimensions, b);
+    }
+
+    private float dot(float[] data, float[] query, int queryOffset, int node) {
+        int slot = slots[node];
+        return slot < 0 ? Float.NEGATIVE_INFINITY : VectorOps.dot(query, queryOffset, data, slot * dimensions, dimensions);
+    }
+
+    private int fingerprint(float[] data, int slot) {
+        int hash = 1;
+        for (int i = slot * dimensions, end = i + dimensions; i < end; i++) {
+            hash = 31 * hash + Float.floatToIntBits(data[i]);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,301 @@
+package com.resumematcher.service.embedding;
+
+import com.resumematcher.model.Job;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Approximate nearest-neighbour index over job embeddings: one HNSW graph per (model, domain),
+// kept in step with the EmbeddingStore and snapshotted to a local file so restarts only need
+// to reconcile the difference instead of rebuilding every graph. Graphs read job vectors from
+// the store's slots, so the index only adds the links.
+@Component
+public class HnswIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(HnswIndex.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x484E5357; // "HNSW"
+    private static final String NO_DOMAIN = "";
+
+    @Autowired
+    private EmbeddingStore embeddingStore;
+
+    private final boolean enabled;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double rebuildDeletedRatio;
+    private final Path snapshotPath;
+
+    private final Map<GraphKey, HnswGraph> graphs = new ConcurrentHashMap<>();
+    private final Map<String, Set<GraphKey>> graphsByJobId = new ConcurrentHashMap<>();
+    private final Set<GraphKey> rebuilding = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuilder;
+    private volatile boolean ready;
+    private boolean dirty;
+
+    private record GraphKey(String model, String domain) {}
+
+    public HnswIndex(@Value("${matching.hnsw.enabled:true}") boolean enabled,
+                     @Value("${matching.hnsw.m:16}") int m,
+                     @Value("${matching.hnsw.ef-construction:200}") int efConstruction,
+                     @Value("${matching.hnsw.ef-search:100}") int efSearch,
+                     @Value("${matching.hnsw.rebuild-deleted-ratio:0.3}") double rebuildDeletedRatio,
+                     @Value("${matching.hnsw.snapshot-path:data/hnsw-index.bin}") String snapshotPath) {
+        this.enabled = enabled;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.rebuildDeletedRatio = rebuildDeletedRatio;
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hnsw-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Only answers queries once the graphs agree with the store; until then callers scan exactly
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean restored = restoreSnapshot();
+        int[] changes = reconcile();
+        dirty = changes[0] > 0 || changes[1] > 0;
+        ready = true;
+        logger.info("HNSW index ready with {} graphs in {} ms (snapshot: {}, inserted: {}, removed: {})",
+            graphs.size(), (System.nanoTime() - start) / 1_000_000, restored, changes[0], changes[1]);
+        snapshot();
+    }
+
+    // Links the vectors the EmbeddingStore holds for the job, so call it after EmbeddingStore.upsert
+    public synchronized void upsert(Job job) {
+        if (!enabled || job.getId() == null) {
+            return;
+        }
+        remove(job.getId());
+        dirty = true;
+        int slot = embeddingStore.slot(job.getId());
+        if (slot >= 0) {
+            insert(job.getId(), job.getDomain(), slot, embeddingStore.models(job.getId()));
+        }
+    }
+
+    public synchronized void remove(String jobId) {
+        Set<GraphKey> keys = graphsByJobId.remove(jobId);
+        if (keys == null) {
+            return;
+        }
+        dirty = true;
+        for (GraphKey key : keys) {
+            HnswGraph graph = graphs.get(key);
+            if (graph != null && graph.remove(jobId) && graph.deletedRatio() > rebuildDeletedRatio
+                    && rebuilding.add(key)) {
+                rebuilder.execute(() -> rebuild(key));
+            }
+        }
+    }
+
+    // Best similarity per job across the query models, from the k nearest neighbours of each graph
+    public Map<String, Float> search(Map<String, float[]> normalizedQueries, String domain, int k) {
+        Map<String, Float> best = new HashMap<>();
+        graphs.forEach((key, graph) -> {
+            float[] query = normalizedQueries.get(key.model());
+            if (query == null || (domain != null && !domain.equals(key.domain()))) {
+                return;
+            }
+            for (HnswGraph.Result result : graph.search(query, k, efSearch)) {
+                best.merge(result.key(), result.similarity(), Math::max);
+            }
+        });
+        return best;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+        snapshot();
+    }
+
+    public synchronized void snapshot() {
+        if (!enabled || !ready || !dirty || snapshotPath == null) {
+            return;
+        }
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "hnsw-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(graphs.size());
+                for (Map.Entry<GraphKey, HnswGraph> graph : graphs.entrySet()) {
+                    out.writeUTF(graph.getKey().model());
+                    out.writeUTF(graph.getKey().domain());
+                    graph.getValue().writeTo(out);
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn("Could not write HNSW snapshot to {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private boolean restoreSnapshot() {
+        if (snapshotPath == null || !Files.isRegularFile(snapshotPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("not an HNSW snapshot");
+            }
+            Map<GraphKey, HnswGraph> restored = new HashMap<>();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                GraphKey key = new GraphKey(in.readUTF(), in.readUTF());
+                EmbeddingStore.SlotVectors storage = embeddingStore.slotVectors(key.model());
+                if (storage == null) {
+                    throw new IOException("no stored vectors for model " + key.model());
+                }
+                HnswGraph graph = HnswGraph.readFrom(in, seed(key), storage, embeddingStore::slot);
+                if (graph.m() != m) {
+                    logger.info("HNSW snapshot was built with M={} (now {}), rebuilding", graph.m(), m);
+                    return false;
+                }
+                restored.put(key, graph);
+            }
+            restored.forEach((key, graph) -> {
+                graphs.put(key, graph);
+                graph.keys().forEach(jobId -> graphsByJobId.computeIfAbsent(jobId, id -> new HashSet<>()).add(key));
+            });
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable HNSW snapshot {}: {}", snapshotPath, e.getMessage());
+            return false;
+        }
+    }
+
+    // Inserts jobs the graphs are missing or hold stale vectors for, and drops ones the store no longer has
+    private synchronized int[] reconcile() {
+        int[] changes = new int[2];
+        Set<String> live = new HashSet<>();
+        embeddingStore.forEach((entry, vectors) -> {
+            live.add(entry.jobId());
+            int slot = embeddingStore.slot(entry.jobId());
+            Set<GraphKey> expected = new HashSet<>();
+            vectors.keySet().forEach(model -> expected.add(graphKey(model, entry.domain())));
+            boolean current = expected.equals(graphsByJobId.getOrDefault(entry.jobId(), Set.of()))
+                // Updated jobs keep their graphs but may have new vectors (or a new slot)
+                && expected.stream().allMatch(key -> graphs.get(key).isCurrent(entry.jobId(), slot));
+            if (!current) {
+                remove(entry.jobId());
+                insert(entry.jobId(), entry.domain(), slot, vectors.keySet());
+                changes[0]++;
+            }
+        });
+        for (String jobId : Set.copyOf(graphsByJobId.keySet())) {
+            if (!live.contains(jobId)) {
+                remove(jobId);
+                changes[1]++;
+            }
+        }
+        return changes;
+    }
+
+    private void insert(String jobId, String domain, int slot, Set<String> models) {
+        Set<GraphKey> keys = new HashSet<>();
+        for (String model : models) {
+            EmbeddingStore.SlotVectors storage = embeddingStore.slotVectors(model);
+            if (storage == null) {
+                continue;
+            }
+            GraphKey key = graphKey(model, domain);
+            graphs.computeIfAbsent(key, k -> new HnswGraph(storage, m, efConstruction, seed(k)))
+                .insert(jobId, slot);
+            keys.add(key);
+        }
+        if (!keys.isEmpty()) {
+            graphsByJobId.put(jobId, keys);
+        }
+    }
+
+    // Tombstones still cost traversal time, so once too many have piled up the graph is rebuilt
+    // here, off the request path: the old graph keeps serving searches and writes while the new
+    // one is built, then the writes it missed are replayed and it is swapped in.
+    private void rebuild(GraphKey key) {
+        try {
+            HnswGraph graph = graphs.get(key);
+            EmbeddingStore.SlotVectors storage = embeddingStore.slotVectors(key.model());
+            if (graph == null || storage == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            HnswGraph rebuilt = new HnswGraph(storage, m, efConstruction, System.nanoTime());
+            graph.liveNodes().forEach((jobId, node) -> rebuilt.insert(jobId, node.slot()));
+
+            synchronized (this) {
+                if (graphs.get(key) != graph) {
+                    return;
+                }
+                Map<String, HnswGraph.Node> current = graph.liveNodes();
+                current.forEach((jobId, node) -> {
+                    if (!node.equals(rebuilt.node(jobId))) {
+                        rebuilt.insert(jobId, node.slot());
+                    }
+                });
+                for (String jobId : rebuilt.keys()) {
+                    if (!current.containsKey(jobId)) {
+                        rebuilt.remove(jobId);
+                    }
+                }
+                graphs.put(key, rebuilt);
+                dirty = true;
+            }
+            logger.debug("Rebuilt HNSW graph {} ({} jobs) in {} ms",
+                key, rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Could not rebuild HNSW graph {}: {}", key, e.getMessage());
+        } finally {
+            rebuilding.remove(key);
+        }
+    }
+
+    private static GraphKey graphKey(String model, String domain) {
+        return new GraphKey(model, Objects.requireNonNullElse(domain, NO_DOMAIN));
+    }
+
+    private static long seed(GraphKey key) {
+        return key.hashCode();
+    }
+}
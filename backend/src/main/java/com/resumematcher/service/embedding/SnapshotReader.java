@@ -0,0 +1,95 @@
+package com.resumematcher.service.embedding;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Reads files written by SnapshotWriter through memory-mapped windows, so multi-GB snapshots
+// are paged in by the OS instead of copied through heap buffers (a single mapping caps at 2GB)
+final class SnapshotReader implements Closeable {
+
+    private static final long WINDOW_SIZE = 256L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    SnapshotReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        map(0);
+    }
+
+    byte getByte() throws IOException {
+        ensure(1);
+        return window.get();
+    }
+
+    int getInt() throws IOException {
+        ensure(4);
+        return window.getInt();
+    }
+
+    long getLong() throws IOException {
+        ensure(8);
+        return window.getLong();
+    }
+
+    String getString() throws IOException {
+        int length = getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            ensure(1);
+            int count = Math.min(window.remaining(), length - offset);
+            window.get(bytes, offset, count);
+            offset += count;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void getFloats(float[] target, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensure(4);
+            FloatBuffer view = window.asFloatBuffer();
+            int count = Math.min(view.remaining(), length);
+            view.get(target, offset, count);
+            window.position(window.position() + count * Float.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (window.remaining() >= bytes) {
+            return;
+        }
+        long position = windowStart + window.position();
+        if (position + bytes > size) {
+            throw new EOFException("Snapshot truncated at byte " + position);
+        }
+        map(position);
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+        window.order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
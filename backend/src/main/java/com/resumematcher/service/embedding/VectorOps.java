@@ -0,0 +1,65 @@
+package com.resumematcher.service.embedding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public final class VectorOps {
+
+    private static final Logger logger = LoggerFactory.getLogger(VectorOps.class);
+
+    private static final DotProduct DOT_PRODUCT = selectDotProduct();
+
+    private VectorOps() {
+    }
+
+    public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        return DOT_PRODUCT.dot(a, aOffset, b, bOffset, length);
+    }
+
+    public static boolean isSimdEnabled() {
+        return !(DOT_PRODUCT instanceof ScalarDotProduct);
+    }
+
+    // Unit-length copy so cosine similarity reduces to a dot product; null for zero vectors
+    public static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0.0) {
+            return null;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+
+    public static float[] toFloatArray(List<Double> values) {
+        float[] vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(i).floatValue();
+        }
+        return vector;
+    }
+
+    private static DotProduct selectDotProduct() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded reflectively so the incubator classes are never touched without the module
+                DotProduct simd = (DotProduct) Class.forName(VectorOps.class.getPackageName() + ".VectorApiDotProduct")
+                    .getDeclaredConstructor()
+                    .newInstance();
+                logger.info("Using jdk.incubator.vector for embedding similarity");
+                return simd;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.warn("Vector API unavailable, using scalar similarity: {}", e.toString());
+            }
+        }
+        return new ScalarDotProduct();
+    }
+}
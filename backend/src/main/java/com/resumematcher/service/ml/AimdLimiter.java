@@ -0,0 +1,64 @@
+package com.resumematcher.service.ml;
+
+// Concurrency limit that adapts to how the ML service copes: every call that comes back fast
+// adds 1/limit (about +1 per round of calls), a timeout, an overload error or a call slower than
+// the latency threshold multiplies the limit by the backoff ratio. Calls over the limit are
+// rejected right away instead of queueing behind a slow service.
+class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight;
+
+    AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    synchronized void onSuccess(long rttNanos) {
+        inFlight--;
+        if (rttNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlight * 2 >= (int) limit) {
+            // Only grow while the limit is actually in use, otherwise it drifts up unchecked
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    synchronized void onDropped() {
+        inFlight--;
+        decrease();
+    }
+
+    // Cancelled, or failed for a reason that says nothing about the service's load
+    synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,22 @@
+package com.resumematcher.service.ml;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+import java.util.Map;
+
+// Body of the ML service /evaluate/batch and /similarity/batch endpoints
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record MLBatchRequest(List<Item> items) {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public record Item(
+            String resumeText,
+            String jobText,
+            String domain,
+            Map<String, float[]> jobEmbeddings) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.resumematcher.service.ml;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+// One result per request item, in request order; an item the ML service could not score
+// carries an error instead of a result
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MLBatchResponse<T>(List<Result<T>> results) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Result<T>(T result, String error) {
+    }
+}
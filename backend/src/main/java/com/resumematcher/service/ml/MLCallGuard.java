@@ -0,0 +1,158 @@
+package com.resumematcher.service.ml;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// Resilience around ML service calls, so a slow ML service costs fast rejections
+// instead of piling up threads:
+//  - each lane has its own adaptive (AIMD) concurrency limit, so batch and queued evaluations can
+//    never take the capacity interactive uploads need (bulkhead);
+//  - a circuit breaker shared by both lanes fails fast while the service keeps failing;
+//  - every attempt has a timeout, and timeouts, connection errors, 502/503/504 responses and
+//    calls over the concurrency limit are retried a bounded number of times with jittered
+//    exponential backoff, which absorbs short bursts; an open circuit is never retried.
+// Rejected calls fail with MLServiceUnavailableException, which the upload endpoints answer with 503.
+@Component
+public class MLCallGuard {
+
+    public enum Lane { INTERACTIVE, BULK }
+
+    private final Map<Lane, AimdLimiter> limiters = new EnumMap<>(Lane.class);
+    private final Map<Lane, Counter> rejections = new EnumMap<>(Lane.class);
+    private final CircuitBreaker circuitBreaker;
+    private final Counter circuitOpenRejections;
+    private final Duration callTimeout;
+    private final Retry retry;
+
+    public MLCallGuard(@Value("${ml.service.resilience.interactive.initial-limit:20}") int interactiveInitialLimit,
+                       @Value("${ml.service.resilience.interactive.max-limit:100}") int interactiveMaxLimit,
+                       @Value("${ml.service.resilience.bulk.initial-limit:16}") int bulkInitialLimit,
+                       @Value("${ml.service.resilience.bulk.max-limit:64}") int bulkMaxLimit,
+                       @Value("${ml.service.resilience.min-limit:2}") int minLimit,
+                       @Value("${ml.service.resilience.backoff-ratio:0.9}") double backoffRatio,
+                       @Value("${ml.service.resilience.latency-threshold:5s}") Duration latencyThreshold,
+                       @Value("${ml.service.resilience.call-timeout:30s}") Duration callTimeout,
+                       @Value("${ml.service.resilience.circuit.window-size:20}") int windowSize,
+                       @Value("${ml.service.resilience.circuit.minimum-calls:10}") int minimumCalls,
+                       @Value("${ml.service.resilience.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                       @Value("${ml.service.resilience.circuit.open-duration:30s}") Duration openDuration,
+                       @Value("${ml.service.resilience.circuit.half-open-calls:3}") int halfOpenCalls,
+                       @Value("${ml.service.resilience.retry.max-retries:2}") int maxRetries,
+                       @Value("${ml.service.resilience.retry.backoff:200ms}") Duration retryBackoff,
+                       @Value("${ml.service.resilience.retry.max-backoff:2s}") Duration maxRetryBackoff,
+                       MeterRegistry meterRegistry) {
+        long latencyThresholdNanos = latencyThreshold.toNanos();
+        limiters.put(Lane.INTERACTIVE, new AimdLimiter(interactiveInitialLimit, minLimit, interactiveMaxLimit,
+            backoffRatio, latencyThresholdNanos));
+        limiters.put(Lane.BULK, new AimdLimiter(bulkInitialLimit, minLimit, bulkMaxLimit,
+            backoffRatio, latencyThresholdNanos));
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+            openDuration.toNanos(), halfOpenCalls, System::nanoTime);
+        this.callTimeout = callTimeout;
+        this.retry = Retry.backoff(maxRetries, retryBackoff)
+            .maxBackoff(maxRetryBackoff)
+            .jitter(0.5)
+            .filter(MLCallGuard::isRetryable)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+        for (Lane lane : Lane.values()) {
+            String tag = lane.name().toLowerCase();
+            AimdLimiter limiter = limiters.get(lane);
+            Gauge.builder("ml.client.concurrency.limit", limiter, AimdLimiter::getLimit).tag("lane", tag)
+                .register(meterRegistry);
+            Gauge.builder("ml.client.concurrency.in-flight", limiter, AimdLimiter::getInFlight).tag("lane", tag)
+                .register(meterRegistry);
+            rejections.put(lane, Counter.builder("ml.client.rejected").tags("lane", tag, "reason", "limit")
+                .register(meterRegistry));
+        }
+        this.circuitOpenRejections = Counter.builder("ml.client.rejected").tags("lane", "any", "reason", "circuit-open")
+            .register(meterRegistry);
+        // 0 closed, 1 half-open, 2 open
+        Gauge.builder("ml.client.circuit.state", circuitBreaker,
+                breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0
+                    : breaker.getState() == CircuitBreaker.State.HALF_OPEN ? 1 : 2)
+            .register(meterRegistry);
+    }
+
+    public <T> Mono<T> call(Lane lane, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> attempt(lane, call)).retryWhen(retry);
+    }
+
+    private <T> Mono<T> attempt(Lane lane, Supplier<Mono<T>> call) {
+        AimdLimiter limiter = limiters.get(lane);
+        if (!limiter.tryAcquire()) {
+            rejections.get(lane).increment();
+            return Mono.error(new LimitReachedException(lane));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            limiter.onIgnored();
+            circuitOpenRejections.increment();
+            return Mono.error(new MLServiceUnavailableException("ML service circuit is open"));
+        }
+
+        long start = System.nanoTime();
+        // Exactly one of success, error or cancel releases the permits
+        AtomicBoolean released = new AtomicBoolean();
+        // Deferred so a request that fails while being built still releases its permits
+        return Mono.defer(call)
+            .timeout(callTimeout)
+            .doOnSuccess(result -> {
+                if (released.compareAndSet(false, true)) {
+                    limiter.onSuccess(System.nanoTime() - start);
+                    circuitBreaker.onSuccess();
+                }
+            })
+            .doOnError(e -> {
+                if (released.compareAndSet(false, true)) {
+                    if (isServiceFailure(e)) {
+                        limiter.onDropped();
+                        circuitBreaker.onFailure();
+                    } else {
+                        // The service answered, it just did not like the request
+                        limiter.onIgnored();
+                        circuitBreaker.onSuccess();
+                    }
+                }
+            })
+            .doOnCancel(() -> {
+                if (released.compareAndSet(false, true)) {
+                    limiter.onIgnored();
+                    circuitBreaker.onIgnored();
+                }
+            });
+    }
+
+    private static boolean isServiceFailure(Throwable e) {
+        return !(e instanceof WebClientResponseException response) || response.getStatusCode().is5xxServerError();
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 502 || status == 503 || status == 504;
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException
+            || e instanceof LimitReachedException;
+    }
+
+    private static final class LimitReachedException extends MLServiceUnavailableException {
+
+        LimitReachedException(Lane lane) {
+            super("ML service concurrency limit reached for " + lane.name().toLowerCase() + " calls");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.resumematcher.service.ml;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+// Typed view of the ML service /embed response; vectors decode straight into float[]
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MLEmbeddingResponse(Map<String, float[]> embeddings) {
+}
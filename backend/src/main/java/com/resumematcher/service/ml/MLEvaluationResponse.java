@@ -0,0 +1,36 @@
+package com.resumematcher.service.ml;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+import java.util.Map;
+
+// Typed view of the ML service /evaluate response, decoded straight from the response bytes
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MLEvaluationResponse(
+        ParsedEntities parsedEntities,
+        Map<String, Double> similarityScores,
+        double skillMatchRatio,
+        double experienceMatchRatio,
+        double educationMatchRatio,
+        double finalScore,
+        String bestModelName,
+        List<String> matchedSkills,
+        List<String> missingSkills,
+        String recommendation,
+        Map<String, Double> featureImportances) {
+
+    // skills and raw_text in the response are not decoded: skills come from the taxonomy extractor
+    // and the resume text is already at hand
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ParsedEntities(
+            List<String> jobTitles,
+            List<String> companies,
+            List<String> education,
+            int experienceYears) {
+    }
+}
@@ -0,0 +1,258 @@
+package com.resumematcher.service.ml;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumematcher.service.EvaluationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class MLServiceClient implements DisposableBean {
+
+    private static final MediaType FORM_FIELD_TYPE = new MediaType("text", "plain", StandardCharsets.UTF_8);
+
+    private static final ParameterizedTypeReference<MLBatchResponse<MLEvaluationResponse>> EVALUATION_BATCH =
+        new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<MLBatchResponse<MLSimilarityResponse>> SIMILARITY_BATCH =
+        new ParameterizedTypeReference<>() {};
+
+    // Identical inputs get identical results, whichever precomputed job embeddings came along
+    private record BatchKey(String resumeText, String jobText, String domain) {}
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final EvaluationMetrics metrics;
+    private final MLCallGuard guard;
+    // Null when batching is turned off
+    private final Map<MLCallGuard.Lane, MicroBatcher<MLBatchRequest.Item, MLEvaluationResponse>> evaluateBatchers;
+    private final Map<MLCallGuard.Lane, MicroBatcher<MLBatchRequest.Item, MLSimilarityResponse>> similarityBatchers;
+
+    public MLServiceClient(@Value("${ml.service.url}") String mlServiceUrl,
+                           @Value("${ml.service.client.max-connections:200}") int maxConnections,
+                           @Value("${ml.service.client.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+                           @Value("${ml.service.client.pending-acquire-timeout:10s}") Duration pendingAcquireTimeout,
+                           @Value("${ml.service.client.max-idle-time:30s}") Duration maxIdleTime,
+                           @Value("${ml.service.client.max-life-time:5m}") Duration maxLifeTime,
+                           @Value("${ml.service.client.connect-timeout:2s}") Duration connectTimeout,
+                           @Value("${ml.service.client.read-timeout:30s}") Duration readTimeout,
+                           @Value("${ml.service.client.write-timeout:30s}") Duration writeTimeout,
+                           @Value("${ml.service.client.response-timeout:60s}") Duration responseTimeout,
+                           @Value("${ml.service.client.h2c:false}") boolean h2c,
+                           @Value("${ml.service.client.max-response-size:16MB}") DataSize maxResponseSize,
+                           @Value("${ml.service.batching.enabled:false}") boolean batching,
+                           @Value("${ml.service.batching.max-batch-size:16}") int maxBatchSize,
+                           @Value("${ml.service.batching.max-delay:5ms}") Duration maxBatchDelay,
+                           ObjectMapper objectMapper,
+                           EvaluationMetrics metrics,
+                           MLCallGuard guard,
+                           MeterRegistry meterRegistry) {
+        // Keep a sized pool of keep-alive connections to the ML service instead of churning sockets
+        this.connectionProvider = ConnectionProvider.builder("ml-service")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .maxLifeTime(maxLifeTime)
+            .evictInBackground(maxIdleTime)
+            .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .responseTimeout(responseTimeout)
+            // Installed per exchange rather than per connection, so an idle pooled connection never
+            // times out; reactor-netty removes them when the connection goes back to the pool. The
+            // write timeout covers sending the request, the read timeout gaps in the response body
+            .doOnRequest((request, connection) -> connection.addHandlerLast("ml-write-timeout",
+                new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+            .doOnResponse((response, connection) -> connection.addHandlerLast("ml-read-timeout",
+                new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+        if (h2c) {
+            // Cleartext HTTP/2 via upgrade, falling back to HTTP/1.1 if the server declines
+            httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        }
+
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.guard = guard;
+        this.webClient = WebClient.builder()
+            .baseUrl(mlServiceUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .codecs(codecs -> {
+                // Responses echo the parsed resume text back, so allow more than the 256KB default
+                codecs.defaultCodecs().maxInMemorySize((int) maxResponseSize.toBytes());
+                codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+            })
+            .build();
+
+        if (batching) {
+            this.evaluateBatchers = new EnumMap<>(MLCallGuard.Lane.class);
+            this.similarityBatchers = new EnumMap<>(MLCallGuard.Lane.class);
+            for (MLCallGuard.Lane lane : MLCallGuard.Lane.values()) {
+                String laneTag = lane.name().toLowerCase();
+                evaluateBatchers.put(lane, new MicroBatcher<>(maxBatchSize, maxBatchDelay, MLServiceClient::batchKey,
+                    items -> sendBatch("/evaluate/batch", items, EVALUATION_BATCH, lane),
+                    meterRegistry, "evaluate", laneTag));
+                similarityBatchers.put(lane, new MicroBatcher<>(maxBatchSize, maxBatchDelay, MLServiceClient::batchKey,
+                    items -> sendBatch("/similarity/batch", items, SIMILARITY_BATCH, lane),
+                    meterRegistry, "similarity", laneTag));
+            }
+        } else {
+            this.evaluateBatchers = null;
+            this.similarityBatchers = null;
+        }
+    }
+
+    public Mono<MLEvaluationResponse> evaluate(String resumeText, String jobText, String domain) {
+        return evaluate(resumeText, jobText, domain, null, MLCallGuard.Lane.INTERACTIVE);
+    }
+
+    // Precomputed job embeddings, when given, spare the ML service from re-encoding the job text
+    public Mono<MLEvaluationResponse> evaluate(String resumeText, String jobText, String domain,
+                                               Map<String, float[]> jobEmbeddings, MLCallGuard.Lane lane) {
+        if (evaluateBatchers != null) {
+            recordPayload(resumeText, jobText, domain);
+            return timed(domain, () -> evaluateBatchers.get(lane).submit(
+                new MLBatchRequest.Item(resumeText, jobText, domain, jobEmbeddings)), MLEvaluationResponse::bestModelName);
+        }
+        // Call ML service using multipart form data; the JSON decoder parses the
+        // response DataBuffers directly into the typed DTO
+        return guard.call(lane, () -> timed(domain, () -> webClient.post()
+            .uri("/evaluate")
+            .body(BodyInserters.fromMultipartData(createMultipartBody(resumeText, jobText, domain, jobEmbeddings)))
+            .retrieve()
+            .bodyToMono(MLEvaluationResponse.class), MLEvaluationResponse::bestModelName));
+    }
+
+    public Mono<MLSimilarityResponse> similarity(String resumeText, String jobText, String domain) {
+        return similarity(resumeText, jobText, domain, null, MLCallGuard.Lane.INTERACTIVE);
+    }
+
+    public Mono<MLSimilarityResponse> similarity(String resumeText, String jobText, String domain,
+                                                 Map<String, float[]> jobEmbeddings, MLCallGuard.Lane lane) {
+        if (similarityBatchers != null) {
+            recordPayload(resumeText, jobText, domain);
+            return timed(domain, () -> similarityBatchers.get(lane).submit(
+                new MLBatchRequest.Item(resumeText, jobText, domain, jobEmbeddings)), MLSimilarityResponse::bestModelName);
+        }
+        return guard.call(lane, () -> timed(domain, () -> webClient.post()
+            .uri("/similarity")
+            .body(BodyInserters.fromMultipartData(createMultipartBody(resumeText, jobText, domain, jobEmbeddings)))
+            .retrieve()
+            .bodyToMono(MLSimilarityResponse.class), MLSimilarityResponse::bestModelName));
+    }
+
+    public Mono<MLEmbeddingResponse> embed(String text) {
+        return embed(text, MLCallGuard.Lane.INTERACTIVE);
+    }
+
+    public Mono<MLEmbeddingResponse> embed(String text, MLCallGuard.Lane lane) {
+        return guard.call(lane, () -> {
+            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            builder.part("text", text, FORM_FIELD_TYPE);
+            return webClient.post()
+                .uri("/embed")
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(MLEmbeddingResponse.class);
+        });
+    }
+
+    // One guarded call per batch; the batcher hands each caller its own result
+    private <T> Mono<List<MLBatchResponse.Result<T>>> sendBatch(String path, List<MLBatchRequest.Item> items,
+                                                               ParameterizedTypeReference<MLBatchResponse<T>> type,
+                                                               MLCallGuard.Lane lane) {
+        return guard.call(lane, () -> webClient.post()
+            .uri(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new MLBatchRequest(items))
+            .retrieve()
+            .bodyToMono(type)
+            .map(response -> response.results() != null ? response.results() : List.of()));
+    }
+
+    private static Object batchKey(MLBatchRequest.Item item) {
+        return new BatchKey(item.resumeText(), item.jobText(), item.domain());
+    }
+
+    private void recordPayload(String resumeText, String jobText, String domain) {
+        metrics.recordPayload("resume", domain, EvaluationMetrics.utf8Length(resumeText));
+        metrics.recordPayload("job", domain, EvaluationMetrics.utf8Length(jobText));
+    }
+
+    // Round trip from subscription to the decoded response, including writing the multipart body;
+    // a failed call is tagged with model "none" and counted as an ML error
+    private <T> Mono<T> timed(String domain, Supplier<Mono<T>> call, Function<T, String> model) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = metrics.start();
+            return call.get()
+                .doOnNext(response -> metrics.stop(sample, EvaluationMetrics.STAGE_ML, domain, model.apply(response)))
+                .doOnError(e -> {
+                    metrics.stop(sample, EvaluationMetrics.STAGE_ML, domain, EvaluationMetrics.NO_MODEL);
+                    metrics.countMlError(domain, e);
+                });
+        });
+    }
+
+    private MultiValueMap<String, HttpEntity<?>> createMultipartBody(String resumeText, String jobText, String domain,
+                                                                     Map<String, float[]> jobEmbeddings) {
+        // Parts are encoded straight into pooled Netty buffers by the multipart writer,
+        // so the resume text is never copied into an intermediate String or byte[].
+        // The encode stage therefore covers assembling the parts and serializing the embeddings.
+        Timer.Sample sample = metrics.start();
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("resume_text", resumeText, FORM_FIELD_TYPE);
+        builder.part("job_text", jobText, FORM_FIELD_TYPE);
+        builder.part("domain", domain, FORM_FIELD_TYPE);
+        recordPayload(resumeText, jobText, domain);
+        if (jobEmbeddings != null && !jobEmbeddings.isEmpty()) {
+            try {
+                String embeddings = objectMapper.writeValueAsString(jobEmbeddings);
+                builder.part("job_embeddings", embeddings, FORM_FIELD_TYPE);
+                metrics.recordPayload("embeddings", domain, embeddings.length());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not encode job embeddings", e);
+            }
+        }
+        MultiValueMap<String, HttpEntity<?>> body = builder.build();
+        metrics.stop(sample, EvaluationMetrics.STAGE_ENCODE, domain, EvaluationMetrics.NO_MODEL);
+        return body;
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+}
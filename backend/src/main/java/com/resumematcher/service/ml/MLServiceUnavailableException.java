@@ -0,0 +1,9 @@
+package com.resumematcher.service.ml;
+
+// Raised without calling the ML service, when its circuit is open or its concurrency limit is reached
+public class MLServiceUnavailableException extends RuntimeException {
+
+    public MLServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.resumematcher.service.ml;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.Map;
+
+// Typed view of the ML service /similarity response
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MLSimilarityResponse(
+        Map<String, Double> similarityScores,
+        String bestModelName) {
+}
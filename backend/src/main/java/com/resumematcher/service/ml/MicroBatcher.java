@@ -0,0 +1,129 @@
+package com.resumematcher.service.ml;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Collects single ML requests for up to maxDelay, or until maxBatchSize are waiting, and sends them
+// as one batch call so the ML service can encode them together; the results are handed back to
+// each caller in request order. A request identical to one already waiting or in flight joins it
+// instead of being sent again.
+class MicroBatcher<K, V> {
+
+    private record Pending<K, V>(Object key, K request, Sinks.One<V> sink) {}
+
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Function<K, Object> keyOf;
+    private final Function<List<K>, Mono<List<MLBatchResponse.Result<V>>>> send;
+    private final Map<Object, Sinks.One<V>> inFlight = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSizes;
+    private final Counter coalesced;
+
+    private List<Pending<K, V>> pending = new ArrayList<>();
+    // Identifies the batch being collected, so a delayed flush never cuts a later batch short
+    private long batchNumber;
+
+    MicroBatcher(int maxBatchSize, Duration maxDelay, Function<K, Object> keyOf,
+                 Function<List<K>, Mono<List<MLBatchResponse.Result<V>>>> send,
+                 MeterRegistry meterRegistry, String endpoint, String lane) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.keyOf = keyOf;
+        this.send = send;
+        this.batchSizes = DistributionSummary.builder("ml.client.batch.size")
+            .tags("endpoint", endpoint, "lane", lane)
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("ml.client.coalesced")
+            .tags("endpoint", endpoint, "lane", lane)
+            .register(meterRegistry);
+    }
+
+    Mono<V> submit(K request) {
+        return Mono.defer(() -> {
+            Object key = keyOf.apply(request);
+            Sinks.One<V> sink = Sinks.one();
+            Sinks.One<V> existing = inFlight.putIfAbsent(key, sink);
+            if (existing != null) {
+                coalesced.increment();
+                return existing.asMono();
+            }
+
+            List<Pending<K, V>> full = null;
+            long scheduleBatch = -1;
+            synchronized (this) {
+                pending.add(new Pending<>(key, request, sink));
+                if (pending.size() >= maxBatchSize) {
+                    full = drain();
+                } else if (pending.size() == 1) {
+                    scheduleBatch = batchNumber;
+                }
+            }
+            if (full != null) {
+                dispatch(full);
+            } else if (scheduleBatch >= 0) {
+                long batch = scheduleBatch;
+                Schedulers.parallel().schedule(() -> flush(batch), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+            return sink.asMono();
+        });
+    }
+
+    private void flush(long batch) {
+        List<Pending<K, V>> due;
+        synchronized (this) {
+            if (batch != batchNumber || pending.isEmpty()) {
+                return;
+            }
+            due = drain();
+        }
+        dispatch(due);
+    }
+
+    private List<Pending<K, V>> drain() {
+        List<Pending<K, V>> drained = pending;
+        pending = new ArrayList<>();
+        batchNumber++;
+        return drained;
+    }
+
+    private void dispatch(List<Pending<K, V>> batch) {
+        batchSizes.record(batch.size());
+        List<K> requests = batch.stream().map(Pending::request).toList();
+        Mono.defer(() -> send.apply(requests))
+            .defaultIfEmpty(List.of())
+            .subscribe(results -> complete(batch, results), error -> batch.forEach(entry -> fail(entry, error)));
+    }
+
+    private void complete(List<Pending<K, V>> batch, List<MLBatchResponse.Result<V>> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            Pending<K, V> entry = batch.get(i);
+            MLBatchResponse.Result<V> result = i < results.size() ? results.get(i) : null;
+            if (result == null) {
+                fail(entry, new IllegalStateException(
+                    "ML service returned " + results.size() + " results for " + batch.size() + " requests"));
+            } else if (result.error() != null || result.result() == null) {
+                fail(entry, new RuntimeException("ML service could not score the resume: " + result.error()));
+            } else {
+                inFlight.remove(entry.key(), entry.sink());
+                entry.sink().tryEmitValue(result.result());
+            }
+        }
+    }
+
+    private void fail(Pending<K, V> entry, Throwable error) {
+        inFlight.remove(entry.key(), entry.sink());
+        entry.sink().tryEmitError(error);
+    }
+}
@@ -0,0 +1,197 @@
+package com.resumematcher.service.scoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+// Multi-pattern matcher that finds every dictionary term in a single scan of the text.
+// Matching is case-insensitive, treats any whitespace run as one space and only reports
+// terms that start and end on word boundaries.
+public class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_OUTPUT = -1;
+
+    // Frozen trie: children of node n are childKeys/childNodes[childStart[n] .. childStart[n + 1]),
+    // sorted by key for binary search
+    private final int[] childStart;
+    private final char[] childKeys;
+    private final int[] childNodes;
+    private final int[] failure;
+    // Term ending at this node (or NO_OUTPUT) and the nearest suffix node that ends a term
+    private final int[] output;
+    private final int[] outputLink;
+    private final int[] termLengths;
+    private final String[] canonicalNames;
+
+    public AhoCorasickMatcher(Map<String, String> termsToCanonical) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new HashMap<>());
+        outputs.add(NO_OUTPUT);
+
+        List<Integer> lengths = new ArrayList<>();
+        List<String> canonical = new ArrayList<>();
+        for (Map.Entry<String, String> term : termsToCanonical.entrySet()) {
+            char[] folded = fold(term.getKey());
+            if (folded.length == 0) {
+                continue;
+            }
+            int node = ROOT;
+            for (char c : folded) {
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    outputs.add(NO_OUTPUT);
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            if (outputs.get(node) == NO_OUTPUT) {
+                outputs.set(node, lengths.size());
+                lengths.add(folded.length);
+                canonical.add(term.getValue());
+            }
+        }
+
+        int nodeCount = children.size();
+        this.childStart = new int[nodeCount + 1];
+        int edgeCount = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            childStart[node] = edgeCount;
+            edgeCount += children.get(node).size();
+        }
+        childStart[nodeCount] = edgeCount;
+        this.childKeys = new char[edgeCount];
+        this.childNodes = new int[edgeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            Character[] keys = children.get(node).keySet().toArray(new Character[0]);
+            Arrays.sort(keys);
+            for (int i = 0; i < keys.length; i++) {
+                childKeys[childStart[node] + i] = keys[i];
+                childNodes[childStart[node] + i] = children.get(node).get(keys[i]);
+            }
+        }
+
+        this.output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        this.termLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+        this.canonicalNames = canonical.toArray(new String[0]);
+        this.failure = new int[nodeCount];
+        this.outputLink = new int[nodeCount];
+        buildFailureLinks();
+    }
+
+    public int size() {
+        return canonicalNames.length;
+    }
+
+    // Distinct canonical names of all terms found, in order of first occurrence
+    public List<String> findAll(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return new ArrayList<>(found);
+        }
+
+        char[] folded = fold(text);
+        int node = ROOT;
+        for (int i = 0; i < folded.length; i++) {
+            node = step(node, folded[i]);
+            boolean endsOnBoundary = i + 1 == folded.length || !isWordChar(folded[i + 1]);
+            if (!endsOnBoundary) {
+                continue;
+            }
+            for (int match = output[node] != NO_OUTPUT ? node : outputLink[node];
+                 match != ROOT;
+                 match = outputLink[match]) {
+                int term = output[match];
+                int start = i + 1 - termLengths[term];
+                if (start == 0 || !isWordChar(folded[start - 1])) {
+                    found.add(canonicalNames[term]);
+                }
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int edge = childStart[ROOT]; edge < childStart[ROOT + 1]; edge++) {
+            failure[childNodes[edge]] = ROOT;
+            outputLink[childNodes[edge]] = ROOT;
+            queue.add(childNodes[edge]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int edge = childStart[node]; edge < childStart[node + 1]; edge++) {
+                int child = childNodes[edge];
+                int fallback = step(failure[node], childKeys[edge]);
+                failure[child] = fallback;
+                outputLink[child] = output[fallback] != NO_OUTPUT ? fallback : outputLink[fallback];
+                queue.add(child);
+            }
+        }
+    }
+
+    private int step(int node, char c) {
+        while (true) {
+            int next = child(node, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = failure[node];
+        }
+    }
+
+    private int child(int node, char c) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char key = childKeys[mid];
+            if (key < c) {
+                low = mid + 1;
+            } else if (key > c) {
+                high = mid - 1;
+            } else {
+                return childNodes[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static char[] fold(String text) {
+        char[] folded = new char[text.length()];
+        int length = 0;
+        boolean previousSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    folded[length++] = ' ';
+                    previousSpace = true;
+                }
+            } else {
+                folded[length++] = Character.toLowerCase(c);
+                previousSpace = false;
+            }
+        }
+        if (length > 0 && folded[length - 1] == ' ') {
+            length--;
+        }
+        return Arrays.copyOf(folded, length);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,204 @@
+package com.resumematcher.service.scoring;
+
+import com.resumematcher.service.ml.MLEvaluationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Rule-based half of the ML service scoring (skill/experience/education ratios, weighted
+// final score and recommendation), using the same weights and thresholds as ml-service
+@Component
+public class ScoringEngine {
+
+    private static final List<Pattern> EXPERIENCE_PATTERNS = List.of(
+        Pattern.compile("(\\d+)\\+?\\s*years?\\s*(?:of\\s*)?experience"),
+        Pattern.compile("experience\\s*:\\s*(\\d+)\\+?\\s*years?"),
+        Pattern.compile("(\\d+)\\+?\\s*years?\\s*in\\s*software")
+    );
+
+    private static final List<String> EDUCATION_KEYWORDS = List.of(
+        "university", "college", "bachelor", "master", "phd", "b.sc", "m.sc", "b.tech", "m.tech"
+    );
+
+    private static final int MAX_EDUCATION_LINE_LENGTH = 120;
+
+    private final SkillExtractor skillExtractor;
+
+    private final double cosineSimilarityWeight;
+    private final double skillMatchWeight;
+    private final double experienceMatchWeight;
+    private final double educationMatchWeight;
+    private final double strongMatchThreshold;
+    private final double goodMatchThreshold;
+    private final double weakMatchThreshold;
+    private final double targetExperienceYears;
+
+    public ScoringEngine(SkillExtractor skillExtractor,
+                         @Value("${scoring.weights.cosine-similarity:0.4}") double cosineSimilarityWeight,
+                         @Value("${scoring.weights.skill-match:0.3}") double skillMatchWeight,
+                         @Value("${scoring.weights.experience-match:0.2}") double experienceMatchWeight,
+                         @Value("${scoring.weights.education-match:0.1}") double educationMatchWeight,
+                         @Value("${scoring.thresholds.strong-match:0.8}") double strongMatchThreshold,
+                         @Value("${scoring.thresholds.good-match:0.6}") double goodMatchThreshold,
+                         @Value("${scoring.thresholds.weak-match:0.4}") double weakMatchThreshold,
+                         @Value("${scoring.target-experience-years:5}") double targetExperienceYears) {
+        this.skillExtractor = skillExtractor;
+        this.cosineSimilarityWeight = cosineSimilarityWeight;
+        this.skillMatchWeight = skillMatchWeight;
+        this.experienceMatchWeight = experienceMatchWeight;
+        this.educationMatchWeight = educationMatchWeight;
+        this.strongMatchThreshold = strongMatchThreshold;
+        this.goodMatchThreshold = goodMatchThreshold;
+        this.weakMatchThreshold = weakMatchThreshold;
+        this.targetExperienceYears = targetExperienceYears;
+    }
+
+    public MLEvaluationResponse score(String resumeText, String jobText,
+                                      Map<String, Double> similarityScores, String bestModelName) {
+        return score(resumeText, extractSkills(jobText), similarityScores, bestModelName);
+    }
+
+    // For stored jobs, whose required skills were extracted when the job was saved
+    public MLEvaluationResponse score(String resumeText, List<String> jobSkills,
+                                      Map<String, Double> similarityScores, String bestModelName) {
+        MLEvaluationResponse.ParsedEntities parsedEntities = parseResume(resumeText);
+        List<String> skills = skillExtractor.extractSkills(resumeText);
+
+        // Match ratios
+        double skillMatchRatio = skillMatchRatio(skills, jobSkills);
+        double experienceMatchRatio = Math.min(1.0, parsedEntities.experienceYears() / targetExperienceYears);
+        double educationMatchRatio = parsedEntities.education().isEmpty() ? 0.3 : 0.8;
+
+        Map<String, Double> scores = similarityScores != null ? similarityScores : Map.of();
+        double finalScore = finalScore(scores, skillMatchRatio, experienceMatchRatio, educationMatchRatio);
+
+        // Matched and missing skills
+        Set<String> resumeSkills = lowerCase(skills);
+        List<String> matchedSkills = new ArrayList<>();
+        List<String> missingSkills = new ArrayList<>();
+        for (String skill : jobSkills) {
+            if (resumeSkills.contains(skill.toLowerCase(Locale.ROOT))) {
+                matchedSkills.add(skill);
+            } else {
+                missingSkills.add(skill);
+            }
+        }
+
+        return new MLEvaluationResponse(
+            parsedEntities,
+            scores,
+            skillMatchRatio,
+            experienceMatchRatio,
+            educationMatchRatio,
+            finalScore,
+            bestModelName,
+            matchedSkills,
+            missingSkills,
+            recommendation(finalScore),
+            featureImportances()
+        );
+    }
+
+    public MLEvaluationResponse.ParsedEntities parseResume(String text) {
+        return new MLEvaluationResponse.ParsedEntities(
+            skillExtractor.extractJobTitles(text),
+            new ArrayList<>(),
+            extractEducation(text),
+            extractExperienceYears(text.toLowerCase(Locale.ROOT))
+        );
+    }
+
+    public List<String> extractSkills(String text) {
+        return skillExtractor.extractSkills(text);
+    }
+
+    public double skillMatchRatio(List<String> resumeSkills, List<String> jobSkills) {
+        if (jobSkills.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> resume = lowerCase(resumeSkills);
+        long matched = jobSkills.stream()
+            .filter(skill -> resume.contains(skill.toLowerCase(Locale.ROOT)))
+            .count();
+        return (double) matched / jobSkills.size();
+    }
+
+    public double finalScore(Map<String, Double> similarityScores, double skillMatch, double experienceMatch,
+                             double educationMatch) {
+        // Use the best similarity score
+        double bestSimilarity = similarityScores.values().stream()
+            .mapToDouble(Double::doubleValue)
+            .max()
+            .orElse(0.0);
+
+        double score = cosineSimilarityWeight * bestSimilarity
+            + skillMatchWeight * skillMatch
+            + experienceMatchWeight * experienceMatch
+            + educationMatchWeight * educationMatch;
+        return Math.min(1.0, Math.max(0.0, score));
+    }
+
+    public String recommendation(double score) {
+        if (score >= strongMatchThreshold) {
+            return "Strong Match";
+        } else if (score >= goodMatchThreshold) {
+            return "Good Match";
+        } else if (score >= weakMatchThreshold) {
+            return "Weak Match";
+        } else {
+            return "Poor Match";
+        }
+    }
+
+    private Map<String, Double> featureImportances() {
+        Map<String, Double> importances = new LinkedHashMap<>();
+        importances.put("cosine_similarity", cosineSimilarityWeight);
+        importances.put("skill_match", skillMatchWeight);
+        importances.put("experience_match", experienceMatchWeight);
+        importances.put("education_match", educationMatchWeight);
+        return importances;
+    }
+
+    private static int extractExperienceYears(String textLower) {
+        for (Pattern pattern : EXPERIENCE_PATTERNS) {
+            Matcher matcher = pattern.matcher(textLower);
+            int years = -1;
+            while (matcher.find()) {
+                years = Math.max(years, Integer.parseInt(matcher.group(1)));
+            }
+            if (years >= 0) {
+                return years;
+            }
+        }
+        return 0;
+    }
+
+    private static List<String> extractEducation(String text) {
+        List<String> education = new ArrayList<>();
+        for (String line : text.split("\\R")) {
+            String lineLower = line.toLowerCase(Locale.ROOT);
+            if (EDUCATION_KEYWORDS.stream().anyMatch(lineLower::contains)) {
+                String trimmed = line.trim();
+                education.add(trimmed.length() > MAX_EDUCATION_LINE_LENGTH
+                    ? trimmed.substring(0, MAX_EDUCATION_LINE_LENGTH) : trimmed);
+            }
+        }
+        return education;
+    }
+
+    private static Set<String> lowerCase(List<String> values) {
+        Set<String> lower = new LinkedHashSet<>();
+        values.forEach(value -> lower.add(value.toLowerCase(Locale.ROOT)));
+        return lower;
+    }
+
+}
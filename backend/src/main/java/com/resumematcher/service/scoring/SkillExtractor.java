@@ -0,0 +1,36 @@
+package com.resumematcher.service.scoring;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Finds taxonomy skills (and their aliases) in free text with one Aho-Corasick scan,
+// so extraction cost does not grow with the size of the taxonomy
+@Component
+public class SkillExtractor {
+
+    private final AhoCorasickMatcher skillMatcher;
+    private final AhoCorasickMatcher jobTitleMatcher;
+
+    public SkillExtractor(SkillTaxonomy taxonomy) {
+        Map<String, String> skillTerms = new LinkedHashMap<>();
+        taxonomy.getSkills().forEach(skill -> skillTerms.put(skill, skill));
+        taxonomy.getSkillAliases().forEach((skill, aliases) ->
+            aliases.forEach(alias -> skillTerms.putIfAbsent(alias, skill)));
+        this.skillMatcher = new AhoCorasickMatcher(skillTerms);
+
+        Map<String, String> jobTitleTerms = new LinkedHashMap<>();
+        taxonomy.getJobTitles().forEach(title -> jobTitleTerms.put(title, title));
+        this.jobTitleMatcher = new AhoCorasickMatcher(jobTitleTerms);
+    }
+
+    public List<String> extractSkills(String text) {
+        return skillMatcher.findAll(text);
+    }
+
+    public List<String> extractJobTitles(String text) {
+        return jobTitleMatcher.findAll(text);
+    }
+}
@@ -0,0 +1,72 @@
+package com.resumematcher.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class SkillTaxonomy {
+
+    private final List<String> skills;
+    private final Map<String, List<String>> skillAliases;
+    private final List<String> jobTitles;
+    private final List<String> educationLevels;
+
+    public SkillTaxonomy(@Value("${scoring.taxonomy-location:classpath:jobTaxonomy.json}") Resource location,
+                         ObjectMapper objectMapper) throws IOException {
+        JsonNode root;
+        try (InputStream in = location.getInputStream()) {
+            root = objectMapper.readTree(in);
+        }
+        this.skills = flatten(root.path("skills"));
+        this.skillAliases = readAliases(root.path("skill_aliases"));
+        this.jobTitles = flatten(root.path("job_titles"));
+        this.educationLevels = flatten(root.path("education_levels"));
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    // Canonical skill name -> alternative spellings that should resolve to it
+    public Map<String, List<String>> getSkillAliases() {
+        return skillAliases;
+    }
+
+    public List<String> getJobTitles() {
+        return jobTitles;
+    }
+
+    public List<String> getEducationLevels() {
+        return educationLevels;
+    }
+
+    private static Map<String, List<String>> readAliases(JsonNode node) {
+        Map<String, List<String>> aliases = new LinkedHashMap<>();
+        node.fields().forEachRemaining(entry -> aliases.put(entry.getKey(), flatten(entry.getValue())));
+        return Collections.unmodifiableMap(aliases);
+    }
+
+    // Categories are either arrays of terms or objects of category -> array of terms
+    private static List<String> flatten(JsonNode node) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (node.isArray()) {
+            node.forEach(term -> terms.add(term.asText()));
+        } else if (node.isObject()) {
+            node.forEach(category -> category.forEach(term -> terms.add(term.asText())));
+        }
+        return Collections.unmodifiableList(new ArrayList<>(terms));
+    }
+}
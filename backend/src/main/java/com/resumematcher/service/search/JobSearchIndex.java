@@ -0,0 +1,217 @@
+package com.resumematcher.service.search;
+
+import com.resumematcher.model.Job;
+import com.resumematcher.service.TopK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// In-process full-text index over job title, requiredSkills and jobText, ranked with BM25.
+// Fields are weighted by repeating their term frequencies (title x3, skills x2, text x1).
+// Updates get a fresh doc id and tombstone the old one; postings are compacted once tombstones
+// outnumber live documents.
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKILLS_WEIGHT = 2;
+    private static final int TEXT_WEIGHT = 1;
+
+    private static final Comparator<Hit> BY_SCORE = Comparator.comparingDouble(Hit::score)
+        .thenComparing(Hit::jobId, Comparator.reverseOrder());
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> docsByJobId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private String[] jobIds = new String[1024];
+    private String[] domains = new String[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private int liveDocs;
+    private long totalLength;
+    private int uncompactedDeletes;
+    private volatile boolean ready;
+
+    public record Hit(String jobId, double score) {}
+
+    public record Result(List<Hit> hits, int total) {}
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Order(20)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long start = System.nanoTime();
+        // Streamed with a cursor so the full collection is never held in memory at once
+        try (Stream<Job> jobs = mongoTemplate.stream(new Query(), Job.class)) {
+            jobs.forEach(this::index);
+            ready = true;
+            logger.info("Indexed {} jobs for search in {} ms ({} terms)",
+                liveDocs, (System.nanoTime() - start) / 1_000_000, postings.size());
+        } catch (Exception e) {
+            logger.warn("Could not build the job search index: {}", e.getMessage());
+        }
+    }
+
+    public void index(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTerms(frequencies, job.getTitle(), TITLE_WEIGHT)
+            + addTerms(frequencies, job.getJobText(), TEXT_WEIGHT);
+        if (job.getRequiredSkills() != null) {
+            for (String skill : job.getRequiredSkills()) {
+                length += addTerms(frequencies, skill, SKILLS_WEIGHT);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            jobIds[doc] = job.getId();
+            domains[doc] = job.getDomain();
+            lengths[doc] = length;
+            docsByJobId.put(job.getId(), doc);
+            frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new PostingList()).add(doc, frequency));
+            liveDocs++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+            if (uncompactedDeletes > Math.max(liveDocs, 1024)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // One page of BM25 hits, best first; total counts every live match of any query term
+    public Result search(String query, String domain, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || size <= 0 || page < 0) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return new Result(List.of(), 0);
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / liveDocs);
+            float[] scores = new float[docCount];
+            BitSet matched = new BitSet(docCount);
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                // Document frequency over live docs only, so tombstones do not skew the idf
+                int[] documentFrequency = new int[1];
+                list.forEach((doc, frequency) -> {
+                    if (!deleted.get(doc)) {
+                        documentFrequency[0]++;
+                    }
+                });
+                double idf = Math.log(1 + (liveDocs - documentFrequency[0] + 0.5) / (documentFrequency[0] + 0.5));
+                list.forEach((doc, frequency) -> {
+                    if (deleted.get(doc) || (domain != null && !domain.equals(domains[doc]))) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    scores[doc] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                    matched.set(doc);
+                });
+            }
+
+            TopK<Hit> best = new TopK<>((int) Math.min((long) (page + 1) * size, Integer.MAX_VALUE), BY_SCORE);
+            for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+                best.offer(new Hit(jobIds[doc], scores[doc]));
+            }
+            List<Hit> ranked = best.toSortedList();
+            int from = (int) Math.min((long) page * size, ranked.size());
+            return new Result(ranked.subList(from, ranked.size()), matched.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        tokens.forEach(token -> frequencies.merge(token, weight, Integer::sum));
+        return tokens.size() * weight;
+    }
+
+    private void removeLocked(String jobId) {
+        Integer doc = docsByJobId.remove(jobId);
+        if (doc != null) {
+            deleted.set(doc);
+            jobIds[doc] = null;
+            liveDocs--;
+            totalLength -= lengths[doc];
+            uncompactedDeletes++;
+        }
+    }
+
+    private void compact() {
+        postings.replaceAll((term, list) -> list.without(deleted));
+        postings.values().removeIf(list -> list == null);
+        uncompactedDeletes = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > jobIds.length) {
+            int newCapacity = Math.max(capacity, jobIds.length * 2);
+            jobIds = Arrays.copyOf(jobIds, newCapacity);
+            domains = Arrays.copyOf(domains, newCapacity);
+            lengths = Arrays.copyOf(lengths, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.resumematcher.service.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Append-only postings for one term: (doc, frequency) pairs in increasing doc order, stored as
+// varint-encoded doc gaps and frequencies. Most gaps and frequencies fit in a single byte.
+final class PostingList {
+
+    interface Consumer {
+        void accept(int doc, int frequency);
+    }
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int docCount;
+
+    void add(int doc, int frequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Postings must be added in increasing doc order");
+        }
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        docCount++;
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    void forEach(Consumer consumer) {
+        int position = 0;
+        int doc = -1;
+        while (position < length) {
+            int gap = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                gap |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int frequency = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            doc += gap;
+            consumer.accept(doc, frequency);
+        }
+    }
+
+    // Copy without the given docs; null when nothing is left
+    PostingList without(BitSet deleted) {
+        PostingList compacted = new PostingList();
+        forEach((doc, frequency) -> {
+            if (!deleted.get(doc)) {
+                compacted.add(doc, frequency);
+            }
+        });
+        if (compacted.docCount == 0) {
+            return null;
+        }
+        compacted.data = Arrays.copyOf(compacted.data, compacted.length);
+        return compacted;
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.resumematcher.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Lower-cases and splits on anything that is not a letter or digit, keeping the '+', '#' and
+// inner '.' that appear in skill names (c++, c#, node.js). Common English stop words are dropped.
+public final class Tokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on",
+        "or", "our", "the", "to", "we", "will", "with", "you", "your"
+    );
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean innerDot = c == '.' && token.length() > 0 && i + 1 < lower.length()
+                && Character.isLetterOrDigit(lower.charAt(i + 1));
+            if (Character.isLetterOrDigit(c) || innerDot || ((c == '+' || c == '#') && token.length() > 0)) {
+                token.append(c);
+            } else {
+                add(tokens, token);
+            }
+        }
+        add(tokens, token);
+        return tokens;
+    }
+
+    private static void add(List<String> tokens, StringBuilder token) {
+        if (token.length() > 0) {
+            String value = token.toString();
+            if (!STOP_WORDS.contains(value)) {
+                tokens.add(value);
+            }
+            token.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.resumematcher.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumematcher.service.ml.MLEvaluationResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old String -> Map tree -> re-boxed HashMap decoding of /evaluate
+ * responses with decoding straight into {@link MLEvaluationResponse}.
+ *
+ *   mvn test -Dtest=MLResponseDecodingBenchmark -Djmh=true
+ *
+ * The GC profiler reports gc.alloc.rate.norm, the bytes allocated per decode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MLResponseDecodingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        payload = objectMapper.writeValueAsBytes(createEvaluatePayload());
+    }
+
+    @Benchmark
+    public Object mapTree() throws Exception {
+        String response = new String(payload, StandardCharsets.UTF_8);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> mlResponse = objectMapper.readValue(response, Map.class);
+        return legacyCopy(mlResponse);
+    }
+
+    @Benchmark
+    public Object typed() throws Exception {
+        return objectMapper.readValue(payload, MLEvaluationResponse.class);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "jmh", matches = "true")
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(MLResponseDecodingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+    // Mirrors the per-field copying the old parseEvaluationResult/parseParsedEntities did
+    @SuppressWarnings("unchecked")
+    private static Object legacyCopy(Map<String, Object> mlResponse) {
+        List<Object> copies = new ArrayList<>();
+        for (String key : new String[]{"similarity_scores", "feature_importances"}) {
+            Map<String, Double> scores = new HashMap<>();
+            ((Map<String, Object>) mlResponse.get(key)).forEach((name, value) -> {
+                if (value instanceof Number) {
+                    scores.put(name, ((Number) value).doubleValue());
+                }
+            });
+            copies.add(scores);
+        }
+        copies.add(((Number) mlResponse.getOrDefault("final_score", 0.0)).doubleValue());
+        copies.add(((Map<String, Object>) mlResponse.get("parsed_entities")).get("skills"));
+        return copies;
+    }
+
+    private static Map<String, Object> createEvaluatePayload() {
+        StringBuilder rawText = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            rawText.append("Built and operated Java, Spring Boot and React services on AWS with Docker and Kubernetes. ");
+        }
+
+        Map<String, Object> parsedEntities = new LinkedHashMap<>();
+        parsedEntities.put("skills", List.of("Java", "Spring Boot", "React", "Aws", "Docker", "Kubernetes", "Mongodb", "Git"));
+        parsedEntities.put("job_titles", List.of("Senior Software Engineer", "Backend Developer"));
+        parsedEntities.put("companies", List.of("TechCorp Inc.", "CloudTech Solutions"));
+        parsedEntities.put("education", List.of("Stanford University"));
+        parsedEntities.put("experience_years", 7);
+        parsedEntities.put("raw_text", rawText.toString());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("parsed_entities", parsedEntities);
+        response.put("similarity_scores", Map.of("minilm", 0.7312, "sbert", 0.6894, "distilbert", 0.6421));
+        response.put("skill_match_ratio", 0.8);
+        response.put("experience_match_ratio", 1.0);
+        response.put("education_match_ratio", 0.8);
+        response.put("final_score", 0.7725);
+        response.put("best_model_name", "xgboost");
+        response.put("matched_skills", List.of("Java", "Spring Boot", "React", "Docker"));
+        response.put("missing_skills", List.of("Terraform"));
+        response.put("recommendation", "Good Match");
+        response.put("feature_importances", Map.of("cosine_similarity", 0.4, "skill_match", 0.3,
+            "experience_match", 0.2, "education_match", 0.1));
+        return response;
+    }
+}
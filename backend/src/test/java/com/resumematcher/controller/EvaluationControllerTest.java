@@ -0,0 +1,83 @@
+package com.resumematcher.controller;
+
+import com.resumematcher.model.EvaluationTask;
+import com.resumematcher.service.EvaluationQueue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(EvaluationController.class)
+class EvaluationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EvaluationQueue evaluationQueue;
+
+    private final MockMultipartFile file = new MockMultipartFile(
+        "file", "test.txt", "text/plain", "Java Spring MongoDB".getBytes()
+    );
+
+    @Test
+    void testAsyncUploadIsAccepted() throws Exception {
+        EvaluationTask task = new EvaluationTask("test.txt", "Java developer", "Fullstack", null, "ref");
+        task.setId("task-1");
+        when(evaluationQueue.submit(any(), anyString(), anyString(), isNull())).thenReturn(task);
+
+        mockMvc.perform(multipart("/api/uploadResume")
+                .file(file)
+                .param("async", "true")
+                .param("jobText", "Java developer")
+                .param("domain", "Fullstack"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/evaluations/task-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.jobText").doesNotExist());
+    }
+
+    @Test
+    void testAsyncUploadIsRejectedWhenQueueIsFull() throws Exception {
+        when(evaluationQueue.submit(any(), anyString(), anyString(), isNull()))
+            .thenThrow(new RejectedExecutionException("Evaluation queue is full"));
+
+        mockMvc.perform(multipart("/api/uploadResume")
+                .file(file)
+                .param("async", "true")
+                .param("jobText", "Java developer")
+                .param("domain", "Fullstack"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void testGetEvaluation() throws Exception {
+        EvaluationTask task = new EvaluationTask("test.txt", "Java developer", "Fullstack", null, "ref");
+        task.setId("task-1");
+        task.setStatus(EvaluationTask.Status.COMPLETED);
+        task.setResumeId("resume-1");
+        when(evaluationQueue.getTask("task-1")).thenReturn(Optional.of(task));
+        when(evaluationQueue.getTask("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/evaluations/task-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.resumeId").value("resume-1"));
+
+        mockMvc.perform(get("/api/evaluations/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,105 @@
+package com.resumematcher.controller;
+
+import com.resumematcher.model.Resume;
+import com.resumematcher.service.ResumeService;
+import com.resumematcher.service.ml.MLServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveResumeController.class)
+class ReactiveResumeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ResumeService resumeService;
+
+    private final MockMultipartFile file = new MockMultipartFile(
+        "file", "test.txt", "text/plain", "Java Spring MongoDB".getBytes()
+    );
+
+    @Test
+    void testUploadResume() throws Exception {
+        Resume resume = new Resume();
+        resume.setId("123");
+        resume.setFileName("test.txt");
+        when(resumeService.uploadAndEvaluateResumeReactive(any(), anyString(), anyString(), isNull()))
+            .thenReturn(Mono.just(resume));
+
+        MvcResult result = mockMvc.perform(multipart("/api/reactive/uploadResume")
+                .file(file)
+                .param("jobText", "Java developer")
+                .param("domain", "Fullstack"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("123"))
+                .andExpect(jsonPath("$.fileName").value("test.txt"));
+    }
+
+    @Test
+    void testBadInputIsRejected() throws Exception {
+        when(resumeService.uploadAndEvaluateResumeReactive(any(), isNull(), isNull(), eq("missing")))
+            .thenReturn(Mono.error(new IllegalArgumentException("Unknown job: missing")));
+
+        MvcResult unknownJob = mockMvc.perform(multipart("/api/reactive/uploadResume")
+                .file(file)
+                .param("jobId", "missing"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(unknownJob))
+                .andExpect(status().isBadRequest());
+
+        MvcResult emptyFile = mockMvc.perform(multipart("/api/reactive/uploadResume")
+                .file(new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0]))
+                .param("jobText", "Java developer")
+                .param("domain", "Fullstack"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(emptyFile))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testLoadSheddingSetsRetryAfter() throws Exception {
+        when(resumeService.uploadAndEvaluateResumeReactive(any(), anyString(), eq("Fullstack"), isNull()))
+            .thenReturn(Mono.error(new MLServiceUnavailableException("ML service circuit is open")));
+        when(resumeService.uploadAndEvaluateResumeReactive(any(), anyString(), eq("Data"), isNull()))
+            .thenReturn(Mono.error(new RejectedExecutionException("extraction pool full")));
+
+        MvcResult unavailable = mockMvc.perform(multipart("/api/reactive/uploadResume")
+                .file(file)
+                .param("jobText", "Java developer")
+                .param("domain", "Fullstack"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(unavailable))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+
+        MvcResult saturated = mockMvc.perform(multipart("/api/reactive/uploadResume")
+                .file(file)
+                .param("jobText", "Data engineer")
+                .param("domain", "Data"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(saturated))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+}
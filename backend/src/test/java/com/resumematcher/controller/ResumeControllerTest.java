@@ -1,6 +1,11 @@
 package com.resumematcher.controller;
 
+import com.resumematcher.dto.BatchUploadItem;
+import com.resumematcher.dto.CursorPage;
+import com.resumematcher.dto.JobMatch;
+import com.resumematcher.dto.ResumeSummary;
 import com.resumematcher.model.Resume;
+import com.resumematcher.service.JobMatchingService;
 import com.resumematcher.service.ResumeService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,11 +14,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -27,6 +41,9 @@ class ResumeControllerTest {
     @MockBean
     private ResumeService resumeService;
 
+    @MockBean
+    private JobMatchingService jobMatchingService;
+
     @Test
     void testUploadResume() throws Exception {
         // Mock service response
@@ -35,7 +52,7 @@ class ResumeControllerTest {
         mockResume.setFileName("test.pdf");
         mockResume.setDomain("Fullstack");
         
-        when(resumeService.uploadAndEvaluateResume(any(), anyString(), anyString()))
+        when(resumeService.uploadAndEvaluateResume(any(), anyString(), anyString(), isNull()))
             .thenReturn(mockResume);
 
         // Create mock file
@@ -54,6 +71,111 @@ class ResumeControllerTest {
                 .andExpect(jsonPath("$.domain").value("Fullstack"));
     }
 
+    @Test
+    void testSingleUploadOverFileCapIsRejected() throws Exception {
+        // The multipart ceiling is sized for batch zips; single uploads keep the 10MB cap
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "huge.pdf", "application/pdf", new byte[10 * 1024 * 1024 + 1]
+        );
+
+        mockMvc.perform(multipart("/api/uploadResume")
+                .file(file)
+                .param("jobText", "Software Engineer position")
+                .param("domain", "Fullstack"))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void testUploadResumes() throws Exception {
+        // Mock service response
+        Resume first = new Resume();
+        first.setId("1");
+        first.setFileName("a.txt");
+
+        when(resumeService.uploadAndEvaluateResumes(anyList(), anyString(), anyString(), isNull()))
+            .thenReturn(List.of(BatchUploadItem.evaluated(first), BatchUploadItem.skipped("b.txt", "unreadable")));
+
+        // Create mock files
+        MockMultipartFile fileA = new MockMultipartFile(
+            "files", "a.txt", "text/plain", "first resume".getBytes()
+        );
+        MockMultipartFile fileB = new MockMultipartFile(
+            "files", "b.txt", "text/plain", "second resume".getBytes()
+        );
+
+        // Perform request
+        mockMvc.perform(multipart("/api/uploadResumes")
+                .file(fileA)
+                .file(fileB)
+                .param("jobText", "Software Engineer position")
+                .param("domain", "Fullstack"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("EVALUATED"))
+                .andExpect(jsonPath("$[0].resume.id").value("1"))
+                .andExpect(jsonPath("$[1].fileName").value("b.txt"))
+                .andExpect(jsonPath("$[1].status").value("SKIPPED"))
+                .andExpect(jsonPath("$[1].error").value("unreadable"))
+                .andExpect(jsonPath("$[1].resume").doesNotExist());
+    }
+
+    @Test
+    void testUploadResumeByJobId() throws Exception {
+        Resume mockResume = new Resume();
+        mockResume.setId("123");
+        mockResume.setJobId("job-1");
+
+        when(resumeService.uploadAndEvaluateResume(any(), isNull(), isNull(), eq("job-1")))
+            .thenReturn(mockResume);
+        when(resumeService.uploadAndEvaluateResume(any(), isNull(), isNull(), eq("missing")))
+            .thenThrow(new IllegalArgumentException("Unknown job: missing"));
+
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "test.txt", "text/plain", "test content".getBytes()
+        );
+
+        // Job text and domain come from the stored job
+        mockMvc.perform(multipart("/api/uploadResume")
+                .file(file)
+                .param("jobId", "job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value("job-1"));
+
+        mockMvc.perform(multipart("/api/uploadResume")
+                .file(file)
+                .param("jobId", "missing"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testUploadWhileExtractionPoolIsFull() throws Exception {
+        when(resumeService.uploadAndEvaluateResume(any(), anyString(), anyString(), isNull()))
+            .thenThrow(new RejectedExecutionException("extraction pool full"));
+        when(resumeService.uploadAndEvaluateResumes(anyList(), anyString(), anyString(), isNull()))
+            .thenThrow(new RejectedExecutionException("extraction pool full"));
+
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "test.txt", "text/plain", "test content".getBytes()
+        );
+        MockMultipartFile files = new MockMultipartFile(
+            "files", "test.txt", "text/plain", "test content".getBytes()
+        );
+
+        mockMvc.perform(multipart("/api/uploadResume")
+                .file(file)
+                .param("jobText", "Software Engineer position")
+                .param("domain", "Fullstack"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"));
+
+        mockMvc.perform(multipart("/api/uploadResumes")
+                .file(files)
+                .param("jobText", "Software Engineer position")
+                .param("domain", "Fullstack"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+
     @Test
     void testGetResume() throws Exception {
         // Mock service response
@@ -81,4 +203,96 @@ class ResumeControllerTest {
         mockMvc.perform(get("/api/resumes/999"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void testGetBestJobs() throws Exception {
+        // Mock service response
+        JobMatch match = new JobMatch("job-1", "Senior Full Stack Developer", "TechCorp Inc.", "San Francisco, CA",
+            "Fullstack", 0.82, 0.75, 0.9, List.of("React", "Python"));
+
+        when(jobMatchingService.findBestJobs(eq("123"), eq(5), isNull()))
+            .thenReturn(Optional.of(List.of(match)));
+
+        // Perform request
+        mockMvc.perform(get("/api/resumes/123/matches").param("k", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].jobId").value("job-1"))
+                .andExpect(jsonPath("$[0].score").value(0.82));
+    }
+
+    @Test
+    void testGetResumesPageAndStream() throws Exception {
+        Resume first = new Resume();
+        first.setId("1");
+        Resume second = new Resume();
+        second.setId("2");
+
+        when(resumeService.getResumePage(isNull(), isNull(), eq(2)))
+            .thenReturn(new CursorPage<>(List.of(first, second), "next"));
+        when(resumeService.streamResumes("Data"))
+            .thenAnswer(invocation -> Stream.of(first, second));
+
+        mockMvc.perform(get("/api/resumes").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        mockMvc.perform(get("/api/resumes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        MvcResult streaming = mockMvc.perform(get("/api/resumes/domain/Data").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(streaming))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        List<String> lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("{\"id\":\"2\""));
+    }
+
+    @Test
+    void testGetResumesWithoutPagingIsAnArray() throws Exception {
+        Resume first = new Resume();
+        first.setId("1");
+        Resume second = new Resume();
+        second.setId("2");
+        when(resumeService.streamResumes(isNull())).thenAnswer(invocation -> Stream.of(first, second));
+
+        MvcResult streaming = mockMvc.perform(get("/api/resumes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(streaming))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value("2"));
+    }
+
+    @Test
+    void testGetResumeSummaries() throws Exception {
+        ResumeSummary summary = new ResumeSummary("1", "a.txt", "Data", null, null, 0.71, "Good Match");
+
+        when(resumeService.getResumeSummaryPage(eq("Data"), isNull(), eq(50)))
+            .thenReturn(new CursorPage<>(List.of(summary), null));
+
+        mockMvc.perform(get("/api/resumes/summaries").param("domain", "Data"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].finalScore").value(0.71))
+                .andExpect(jsonPath("$.items[0].rawText").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetResumeText() throws Exception {
+        when(resumeService.getResumeText("123")).thenReturn(Optional.of("Jane Doe\nPython, AWS"));
+        when(resumeService.getResumeText("999")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/resumes/123/text"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Jane Doe\nPython, AWS"));
+        mockMvc.perform(get("/api/resumes/999/text"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,152 @@
+package com.resumematcher.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test for /api/uploadResume against a running backend.
+ *
+ * Run it once against the default platform-thread setup and once with
+ * VIRTUAL_THREADS_ENABLED=true on a Java 21 runtime, then compare the reported
+ * server-side peak and p99 latency. Every request carries a distinct resume so
+ * none of them is answered from the evaluation cache, and the peak is sampled
+ * from the backend's actuator metrics (requests being handled, busy Tomcat
+ * threads) rather than from the client's own permit count:
+ *
+ *   mvn test -Dtest=UploadLoadTest -Dloadtest.baseUrl=http://localhost:8080 \
+ *       -Dloadtest.concurrency=1000 -Dloadtest.requests=10000
+ */
+@EnabledIfSystemProperty(named = "loadtest.baseUrl", matches = ".+")
+class UploadLoadTest {
+
+    private static final String BOUNDARY = "----LoadTestBoundary";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void uploadResumeUnderConcurrentLoad() throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl");
+        int concurrency = Integer.getInteger("loadtest.concurrency", 500);
+        int totalRequests = Integer.getInteger("loadtest.requests", 5000);
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        // Sampled on the server: requests inside the handler and, on platform threads, busy Tomcat workers
+        AtomicInteger peakActiveRequests = new AtomicInteger(-1);
+        AtomicInteger peakBusyThreads = new AtomicInteger(-1);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleWithFixedDelay(() -> {
+            sampleMetric(client, baseUrl, "http.server.requests.active", "ACTIVE_TASKS", peakActiveRequests);
+            sampleMetric(client, baseUrl, "tomcat.threads.busy", "VALUE", peakBusyThreads);
+        }, 0, 50, TimeUnit.MILLISECONDS);
+
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(totalRequests));
+        List<CompletableFuture<?>> futures = new ArrayList<>(totalRequests);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < totalRequests; i++) {
+            permits.acquire();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/uploadResume"))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .timeout(Duration.ofMinutes(2))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(createMultipartBody(i)))
+                .build();
+            long sent = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    latencies.add(System.nanoTime() - sent);
+                    if (error != null || response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                    permits.release();
+                }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        sampler.shutdownNow();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        // -1 means the metric was not available (tomcat.threads.busy needs server.tomcat.mbeanregistry.enabled)
+        System.out.printf("requests=%d failures=%d clientConcurrency=%d serverPeakActive=%d serverPeakBusyThreads=%d%n",
+            totalRequests, failures.get(), concurrency, peakActiveRequests.get(), peakBusyThreads.get());
+        System.out.printf("throughput=%.1f req/s p50=%.1f ms p95=%.1f ms p99=%.1f ms max=%.1f ms%n",
+            totalRequests / elapsedSeconds, percentile(sorted, 0.50), percentile(sorted, 0.95),
+            percentile(sorted, 0.99), percentile(sorted, 1.0));
+
+        assertTrue(failures.get() < totalRequests, "every request failed");
+    }
+
+    private static double percentile(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, index)) / 1e6;
+    }
+
+    private static void sampleMetric(HttpClient client, String baseUrl, String metric, String statistic,
+                                     AtomicInteger peak) {
+        try {
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric))
+                    .timeout(Duration.ofSeconds(2))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return;
+            }
+            for (JsonNode measurement : MAPPER.readTree(response.body()).path("measurements")) {
+                if (statistic.equals(measurement.path("statistic").asText())) {
+                    peak.accumulateAndGet(measurement.path("value").asInt(), Math::max);
+                }
+            }
+        } catch (Exception e) {
+            // A missed sample only lowers the reported peak; the load itself is unaffected
+        }
+    }
+
+    private static byte[] createMultipartBody(int sequence) {
+        // The sequence number makes each resume text, and so each evaluation cache key, unique
+        String resume = "Software Engineer with " + (sequence % 15 + 1) + " years of experience in Java, "
+            + "Spring Boot, React, MongoDB, Docker and Kubernetes. Bachelor's degree in Computer Science. "
+            + "Candidate reference " + sequence + ".";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writePart(body, "name=\"file\"; filename=\"loadtest.txt\"", resume);
+        writePart(body, "name=\"jobText\"", "Senior Java developer with Spring Boot, MongoDB and Kubernetes");
+        writePart(body, "name=\"domain\"", "Fullstack");
+        body.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String disposition, String value) {
+        String part = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; " + disposition + "\r\n\r\n"
+            + value + "\r\n";
+        body.writeBytes(part.getBytes(StandardCharsets.UTF_8));
+    }
+}
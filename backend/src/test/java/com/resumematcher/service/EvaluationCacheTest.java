@@ -0,0 +1,62 @@
+package com.resumematcher.service;
+
+import com.resumematcher.service.ml.MLEvaluationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluationCacheTest {
+
+    private static final MLEvaluationResponse RESPONSE = new MLEvaluationResponse(null, Map.of("minilm", 0.9),
+        0.5, 0.5, 0.5, 0.8, "minilm", List.of(), List.of(), "Strong Match", Map.of());
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntry() {
+        EvaluationCache cache = cache(2, Duration.ofHours(1), "remote");
+        cache.put("a", RESPONSE);
+        cache.put("b", RESPONSE);
+        // Reading "a" makes "b" the eldest entry
+        assertNotNull(cache.get("a"));
+        cache.put("c", RESPONSE);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    void testExpiredEntryIsAMiss() throws InterruptedException {
+        EvaluationCache cache = cache(10, Duration.ofMillis(1), "remote");
+        cache.put("a", RESPONSE);
+        Thread.sleep(5);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testKeyPartsDoNotRunTogether() {
+        EvaluationCache cache = cache(10, Duration.ofHours(1), "remote");
+
+        assertNotEquals(cache.key("ab", "c", "Backend"), cache.key("a", "bc", "Backend"));
+        assertEquals(cache.key("ab", "c", "Backend"), cache.key("ab", "c", "Backend"));
+    }
+
+    @Test
+    void testKeyDependsOnScoringMode() {
+        EvaluationCache remote = cache(10, Duration.ofHours(1), "remote");
+        EvaluationCache local = cache(10, Duration.ofHours(1), "local");
+
+        assertNotEquals(remote.key("cv", "job", "Backend"), local.key("cv", "job", "Backend"));
+    }
+
+    private static EvaluationCache cache(int maxSize, Duration ttl, String scoringMode) {
+        return new EvaluationCache(true, maxSize, ttl, "v1", scoringMode, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,42 @@
+package com.resumematcher.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluationMetricsTest {
+
+    @Test
+    void testStagesAreTaggedByDomainAndModel() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EvaluationMetrics metrics = new EvaluationMetrics(registry);
+
+        String text = metrics.time(EvaluationMetrics.STAGE_EXTRACT, "Engineering", EvaluationMetrics.NO_MODEL, () -> "text");
+        metrics.stop(metrics.start(), EvaluationMetrics.STAGE_ML, "Engineering", "mpnet");
+        metrics.recordPayload("resume", "Engineering", EvaluationMetrics.utf8Length("héllo"));
+        metrics.countResult("cache", null, "mpnet");
+
+        assertEquals("text", text);
+        Timer ml = registry.get("evaluation.stage").tags("stage", "ml", "domain", "Engineering", "model", "mpnet").timer();
+        assertEquals(1, ml.count());
+        assertEquals(3, ml.takeSnapshot().percentileValues().length);
+        assertEquals(6, registry.get("evaluation.payload").tag("part", "resume").summary().totalAmount());
+        assertEquals(1, registry.get("evaluation.results").tags("source", "cache", "domain", "unknown").counter().count());
+    }
+
+    @Test
+    void testDomainTagValuesAreCapped() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(EvaluationMetrics.tagLimit("domain", 2));
+        EvaluationMetrics metrics = new EvaluationMetrics(registry);
+
+        for (String domain : new String[]{"a", "b", "c", "d"}) {
+            metrics.countResult("ml", domain, "mpnet");
+        }
+
+        assertEquals(2, registry.find("evaluation.results").counters().size());
+        assertNull(registry.find("evaluation.results").tag("domain", "d").counter());
+    }
+}
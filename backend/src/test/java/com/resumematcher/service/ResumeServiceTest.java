@@ -0,0 +1,203 @@
+package com.resumematcher.service;
+
+import com.resumematcher.dto.BatchUploadItem;
+import com.resumematcher.model.Resume;
+import com.resumematcher.repository.ReactiveResumeRepository;
+import com.resumematcher.repository.ResumeRepository;
+import com.resumematcher.service.embedding.EmbeddingStore;
+import com.resumematcher.service.ml.MLCallGuard;
+import com.resumematcher.service.ml.MLEvaluationResponse;
+import com.resumematcher.service.ml.MLServiceClient;
+import com.resumematcher.service.ml.MLServiceUnavailableException;
+import com.resumematcher.service.scoring.ScoringEngine;
+import com.resumematcher.service.scoring.SkillExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ResumeServiceTest {
+
+    private static final MLEvaluationResponse ML_RESPONSE = new MLEvaluationResponse(null, Map.of("minilm", 0.9),
+        0.5, 0.5, 0.5, 0.8, "minilm", List.of(), List.of(), "Strong Match", Map.of());
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private ReactiveResumeRepository reactiveResumeRepository;
+
+    @Mock
+    private EvaluationCache evaluationCache;
+
+    @Mock
+    private TextBlobStore textBlobStore;
+
+    @Mock
+    private TextExtractor textExtractor;
+
+    @Mock
+    private Leaderboard leaderboard;
+
+    @Mock
+    private MLServiceClient mlServiceClient;
+
+    @Mock
+    private EmbeddingStore embeddingStore;
+
+    @Mock
+    private JobCache jobCache;
+
+    @Mock
+    private ScoringEngine scoringEngine;
+
+    @Mock
+    private SkillExtractor skillExtractor;
+
+    @InjectMocks
+    private ResumeService resumeService;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(resumeService, "metrics", new EvaluationMetrics(registry));
+        ReflectionTestUtils.setField(resumeService, "batchConcurrency", 4);
+        ReflectionTestUtils.setField(resumeService, "batchSaveSize", 10);
+        when(textExtractor.extract(anyString(), any())).thenReturn("Java developer");
+        when(evaluationCache.key(anyString(), anyString(), anyString())).thenReturn("key");
+        when(resumeRepository.save(any(Resume.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(resumeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobCache.get("job-1")).thenReturn(Optional.of(
+            new JobCache.CachedJob("job-1", "Stored posting", "Backend", List.of("Java"))));
+    }
+
+    @Test
+    void testCallerJobTextIsNotScoredAgainstStoredEmbeddings() {
+        when(mlServiceClient.evaluate(anyString(), anyString(), anyString(), isNull(), any()))
+            .thenReturn(Mono.just(ML_RESPONSE));
+
+        resumeService.evaluateUpload("cv.txt", new ByteArrayResource(new byte[0]), "Caller posting", null, "job-1",
+            MLCallGuard.Lane.INTERACTIVE);
+
+        verify(mlServiceClient).evaluate(eq("Java developer"), eq("Caller posting"), eq("Backend"), isNull(), any());
+        verify(embeddingStore, never()).vectors(anyString());
+    }
+
+    @Test
+    void testJobTextWithoutDomainOrJobIdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> resumeService.evaluateUpload("cv.txt",
+            new ByteArrayResource(new byte[0]), "Caller posting", null, null, MLCallGuard.Lane.INTERACTIVE));
+        verify(mlServiceClient, never()).evaluate(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testDegradedFallbackNeverHidesLoadShedding() {
+        ReflectionTestUtils.setField(resumeService, "degradedScoringEnabled", true);
+        when(mlServiceClient.evaluate(anyString(), anyString(), anyString(), any(), any()))
+            .thenReturn(Mono.error(new MLServiceUnavailableException("ML service circuit is open")));
+
+        assertThrows(MLServiceUnavailableException.class, () -> resumeService.evaluateUpload("cv.txt",
+            new ByteArrayResource(new byte[0]), null, null, "job-1", MLCallGuard.Lane.INTERACTIVE));
+
+        // Other ML failures are scored by rules and marked as such
+        when(mlServiceClient.evaluate(anyString(), anyString(), anyString(), any(), any()))
+            .thenReturn(Mono.error(new IllegalStateException("connection reset")));
+        when(scoringEngine.score(anyString(), eq(List.of("Java")), eq(Map.of()), eq(ResumeService.DEGRADED_MODEL_NAME)))
+            .thenReturn(new MLEvaluationResponse(null, Map.of(), 1.0, 1.0, 1.0, 0.6,
+                ResumeService.DEGRADED_MODEL_NAME, List.of(), List.of(), "Good Match", Map.of()));
+
+        Resume resume = resumeService.evaluateUpload("cv.txt", new ByteArrayResource(new byte[0]), null, null,
+            "job-1", MLCallGuard.Lane.INTERACTIVE);
+        assertEquals(ResumeService.DEGRADED_MODEL_NAME, resume.getEvaluationResult().getBestModelName());
+    }
+
+    @Test
+    void testReactiveUploadRecordsTotalStage() {
+        when(mlServiceClient.evaluate(anyString(), anyString(), anyString(), any(), any()))
+            .thenReturn(Mono.just(ML_RESPONSE));
+        when(reactiveResumeRepository.save(any(Resume.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        Resume resume = resumeService.uploadAndEvaluateResumeReactive(
+            new MockMultipartFile("file", "cv.txt", "text/plain", new byte[0]), null, null, "job-1").block();
+
+        assertNotNull(resume);
+        assertEquals(1, registry.get("evaluation.stage")
+            .tags("stage", EvaluationMetrics.STAGE_TOTAL, "domain", "Backend", "model", "minilm").timer().count());
+    }
+
+    @Test
+    void testBatchUploadReportsSkippedFilesAndShedsLoad() {
+        List<MultipartFile> files = List.of(
+            new MockMultipartFile("files", "good.txt", "text/plain", new byte[]{1}),
+            new MockMultipartFile("files", "bad.txt", "text/plain", new byte[]{1}),
+            new MockMultipartFile("files", "broken.pdf", "application/pdf", new byte[]{1}));
+        when(textExtractor.extract(eq("bad.txt"), any())).thenReturn("Bad resume");
+        when(textExtractor.extract(eq("broken.pdf"), any())).thenThrow(new RuntimeException("Error extracting text"));
+        when(mlServiceClient.evaluate(eq("Java developer"), anyString(), anyString(), any(), any()))
+            .thenReturn(Mono.just(ML_RESPONSE));
+        when(mlServiceClient.evaluate(eq("Bad resume"), anyString(), anyString(), any(), any()))
+            .thenReturn(Mono.error(new IllegalStateException("ML service returned 500")));
+
+        List<BatchUploadItem> results = resumeService.uploadAndEvaluateResumes(files, null, null, "job-1");
+
+        Map<String, BatchUploadItem> byFile = new HashMap<>();
+        results.forEach(item -> byFile.put(item.fileName(), item));
+        assertEquals(3, results.size());
+        assertEquals(BatchUploadItem.Status.EVALUATED, byFile.get("good.txt").status());
+        assertEquals(BatchUploadItem.Status.SKIPPED, byFile.get("bad.txt").status());
+        assertEquals(BatchUploadItem.Status.SKIPPED, byFile.get("broken.pdf").status());
+
+        // An open circuit fails the batch instead of returning every file as skipped
+        when(mlServiceClient.evaluate(anyString(), anyString(), anyString(), any(), any()))
+            .thenReturn(Mono.error(new MLServiceUnavailableException("ML service circuit is open")));
+        assertThrows(MLServiceUnavailableException.class,
+            () -> resumeService.uploadAndEvaluateResumes(files, null, null, "job-1"));
+    }
+
+    @Test
+    void testStoredJobTextUsesStoredEmbeddings() {
+        Map<String, float[]> vectors = Map.of("minilm", new float[]{1f});
+        when(embeddingStore.vectors("job-1")).thenReturn(vectors);
+        when(mlServiceClient.evaluate(anyString(), anyString(), anyString(), eq(vectors), any()))
+            .thenReturn(Mono.just(ML_RESPONSE));
+
+        Resume resume = resumeService.evaluateUpload("cv.txt", new ByteArrayResource(new byte[0]), null, null, "job-1",
+            MLCallGuard.Lane.INTERACTIVE);
+        // Blank form fields count as absent, so the stored job still wins
+        resumeService.evaluateUpload("cv.txt", new ByteArrayResource(new byte[0]), " ", "", "job-1",
+            MLCallGuard.Lane.INTERACTIVE);
+
+        verify(mlServiceClient, times(2)).evaluate(eq("Java developer"), eq("Stored posting"), eq("Backend"), eq(vectors), any());
+        assertEquals(0.8, resume.getEvaluationResult().getFinalScore());
+    }
+}
@@ -0,0 +1,79 @@
+package com.resumematcher.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextExtractorTest {
+
+    private final TextExtractor extractor =
+        new TextExtractor(2, 4, 40, 2, DataSize.ofMegabytes(1), Duration.ofSeconds(30));
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    @Test
+    void testPlainTextIsCappedAtMaxCharacters() {
+        String text = "Java Spring MongoDB ".repeat(10);
+
+        String extracted = extractor.extract("resume.txt", resource(text.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(text.substring(0, 40), extracted);
+    }
+
+    @Test
+    void testExtractsDocxAndHtml() throws Exception {
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (XWPFDocument document = new XWPFDocument()) {
+            document.createParagraph().createRun().setText("Senior Java developer");
+            document.write(docx);
+        }
+        byte[] html = "<html><head><title>CV</title></head><body><p>Kubernetes and Go</p></body></html>"
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("Senior Java developer", extractor.extract("resume.docx", resource(docx.toByteArray())));
+        assertEquals("Kubernetes and Go", extractor.extract("resume.html", resource(html)));
+    }
+
+    @Test
+    void testPdfStopsAtMaxPages() throws Exception {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 1; page <= 3; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Page" + page);
+                    content.endText();
+                }
+            }
+            document.save(pdf);
+        }
+
+        String extracted = extractor.extract("resume.pdf", resource(pdf.toByteArray()));
+
+        assertTrue(extracted.contains("Page1") && extracted.contains("Page2"), extracted);
+        assertFalse(extracted.contains("Page3"), extracted);
+    }
+
+    private static ByteArrayResource resource(byte[] bytes) {
+        return new ByteArrayResource(bytes);
+    }
+}
@@ -0,0 +1,51 @@
+package com.resumematcher.service;
+
+import com.resumematcher.dto.ResumeSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopScoreBoardTest {
+
+    @Test
+    void testKeepsBestEntriesAndPagesByScoreThenId() {
+        TopScoreBoard board = new TopScoreBoard(3);
+        board.offer(summary("a", 0.5));
+        board.offer(summary("b", 0.9));
+        board.offer(summary("c", 0.7));
+        board.offer(summary("d", 0.7));
+        board.offer(summary("e", 0.1));
+
+        assertEquals(List.of("b", "d", "c"), ids(board.page(null, 10)));
+        assertTrue(board.isTruncated());
+
+        // Cursor from the last entry of the first page
+        List<ResumeSummary> first = board.page(null, 2);
+        assertEquals(List.of("c"), ids(board.page(first.get(1), 2)));
+
+        // Re-scoring a resume moves it rather than duplicating it
+        board.offer(summary("c", 0.95));
+        assertEquals(List.of("c", "b", "d"), ids(board.page(null, 10)));
+    }
+
+    @Test
+    void testSeedingKeepsNewerOffers() {
+        TopScoreBoard board = new TopScoreBoard(10);
+        board.offer(summary("a", 0.8));
+        board.seedIfNeeded(() -> List.of(summary("a", 0.2), summary("b", 0.6)));
+        board.seedIfNeeded(() -> fail("seeded twice"));
+
+        assertEquals(List.of("a", "b"), ids(board.page(null, 10)));
+        assertEquals(0.8, board.page(null, 1).get(0).finalScore());
+    }
+
+    private static ResumeSummary summary(String id, double score) {
+        return new ResumeSummary(id, id + ".txt", "Data", null, null, score, null);
+    }
+
+    private static List<String> ids(List<ResumeSummary> summaries) {
+        return summaries.stream().map(ResumeSummary::id).toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.resumematcher.service.embedding;
+
+import com.resumematcher.model.Job;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmbeddingStoreTest {
+
+    @Test
+    void testScanReportsBestCosineSimilarityPerJob() {
+        EmbeddingStore store = new EmbeddingStore();
+        store.upsert(job("job-1", "Fullstack", Map.of("minilm", List.of(1.0, 0.0, 0.0), "sbert", List.of(0.0, 2.0))));
+        store.upsert(job("job-2", "Cloud", Map.of("minilm", List.of(0.0, 3.0, 0.0))));
+        store.upsert(job("job-3", "Fullstack", null));
+
+        Map<String, float[]> query = Map.of(
+            "minilm", VectorOps.normalize(new float[]{1f, 1f, 0f}),
+            "sbert", VectorOps.normalize(new float[]{0f, 1f}));
+
+        Map<String, Float> all = scan(store, query, null);
+        assertEquals(3, all.size());
+        assertEquals(1.0f, all.get("job-1"), 1e-6f);
+        assertEquals((float) Math.sqrt(0.5), all.get("job-2"), 1e-6f);
+        assertEquals(0.0f, all.get("job-3"), 1e-6f);
+
+        assertEquals(Map.of("job-2", all.get("job-2")), scan(store, query, "Cloud"));
+    }
+
+    @Test
+    void testRemoveAndUpdateReuseSlots() {
+        EmbeddingStore store = new EmbeddingStore();
+        for (int i = 0; i < 2000; i++) {
+            store.upsert(job("job-" + i, "Data", Map.of("minilm", List.of(1.0, (double) i))));
+        }
+        store.remove("job-5");
+        store.upsert(job("job-7", "Data", Map.of("minilm", List.of(0.0, -1.0))));
+
+        Map<String, Float> similarities = scan(store, Map.of("minilm", new float[]{1f, 0f}), null);
+        assertEquals(1999, store.size());
+        assertFalse(similarities.containsKey("job-5"));
+        assertEquals(0.0f, similarities.get("job-7"), 1e-6f);
+        assertEquals(1.0f, similarities.get("job-0"), 1e-6f);
+    }
+
+    @Test
+    void testCompactEmbeddingsTakePrecedenceOverLegacyVectors() {
+        Job job = job("job-1", "Data", Map.of("minilm", List.of(1.0, 0.0)));
+        job.setEmbeddingVectors(EmbeddingCodec.encodeAll(Map.of("minilm", new float[]{0f, 2f}, "sbert", new float[]{3f, 4f})));
+        EmbeddingStore store = new EmbeddingStore();
+        store.upsert(job);
+
+        Map<String, float[]> vectors = store.vectors("job-1");
+        assertArrayEquals(new float[]{0f, 1f}, vectors.get("minilm"), 1e-6f);
+        assertArrayEquals(new float[]{0.6f, 0.8f}, vectors.get("sbert"), 1e-6f);
+        assertTrue(store.vectors("missing").isEmpty());
+        assertEquals(8, EmbeddingCodec.encode(new float[]{0.6f, 0.8f}).length);
+    }
+
+    @Test
+    void testSnapshotRoundTrip(@TempDir Path directory) throws Exception {
+        EmbeddingStore store = new EmbeddingStore();
+        for (int i = 0; i < 1500; i++) {
+            Map<String, List<Double>> embeddings = i % 3 == 0
+                ? Map.of("minilm", List.of(1.0, (double) i))
+                : Map.of("minilm", List.of(1.0, (double) i), "sbert", List.of((double) i, 1.0, 0.5));
+            store.upsert(job("job-" + i, i % 2 == 0 ? "Data" : null, embeddings));
+        }
+        store.remove("job-10");
+        Path snapshot = directory.resolve("store.bin");
+        store.writeSnapshot(snapshot);
+
+        EmbeddingStore restored = new EmbeddingStore();
+        assertTrue(restored.restoreSnapshot(snapshot));
+        assertEquals(store.size(), restored.size());
+        assertNull(restored.get("job-10"));
+        assertEquals(store.get("job-11"), restored.get("job-11"));
+
+        Map<String, float[]> query = Map.of(
+            "minilm", VectorOps.normalize(new float[]{1f, 3f}),
+            "sbert", VectorOps.normalize(new float[]{2f, 1f, 0f}));
+        assertEquals(scan(store, query, null), scan(restored, query, null));
+        assertEquals(scan(store, query, "Data"), scan(restored, query, "Data"));
+
+        // A truncated file is rejected and leaves the store empty
+        Files.write(snapshot, Arrays.copyOf(Files.readAllBytes(snapshot), 4096));
+        assertFalse(restored.restoreSnapshot(snapshot));
+        assertEquals(0, restored.size());
+    }
+
+    @Test
+    void testDotProductMatchesScalarForOddLengths() {
+        float[] a = new float[771];
+        float[] b = new float[771];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (float) Math.sin(i);
+            b[i] = (float) Math.cos(i);
+        }
+        float expected = new ScalarDotProduct().dot(a, 0, b, 0, a.length);
+        assertEquals(expected, VectorOps.dot(a, 0, b, 0, a.length), 1e-3f);
+    }
+
+    private static Map<String, Float> scan(EmbeddingStore store, Map<String, float[]> query, String domain) {
+        List<Map.Entry<String, Float>> results = store.scan(query, domain, ArrayList::new,
+            (list, entry, similarity) -> list.add(Map.entry(entry.jobId(), similarity)), List::addAll);
+        Map<String, Float> similarities = new HashMap<>();
+        results.forEach(result -> similarities.put(result.getKey(), result.getValue()));
+        return similarities;
+    }
+
+    private static Job job(String id, String domain, Map<String, List<Double>> embeddings) {
+        Job job = new Job("Job text", List.of("Java"), domain);
+        job.setId(id);
+        job.setJobEmbeddings(embeddings);
+        return job;
+    }
+}
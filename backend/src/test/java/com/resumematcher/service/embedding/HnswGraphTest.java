@@ -0,0 +1,199 @@
+package com.resumematcher.service.embedding;
+
+import com.resumematcher.service.TopK;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HnswGraphTest {
+
+    private static final int DIMENSIONS = 64;
+    private static final int K = 10;
+
+    @Test
+    void testRecallAtKAgainstExactSearch() {
+        List<float[]> vectors = new ArrayList<>();
+        HnswGraph graph = build(1000, vectors, new Random(42));
+
+        double recall = recall(graph, vectors, 50, new Random(43));
+        assertTrue(recall >= 0.9, "recall@" + K + " was " + recall);
+    }
+
+    /**
+     * Recall and query time against an exact scan on a large graph:
+     *
+     *   mvn test -Dtest=HnswGraphTest -Dhnsw.benchmark.size=1000000
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "hnsw.benchmark.size", matches = "\\d+")
+    void benchmarkRecallAndLatency() {
+        int size = Integer.getInteger("hnsw.benchmark.size");
+        int queries = 200;
+        List<float[]> vectors = new ArrayList<>(size);
+
+        long buildStart = System.nanoTime();
+        HnswGraph graph = build(size, vectors, new Random(42));
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        Random random = new Random(43);
+        double recall = 0;
+        long exactNanos = 0;
+        long approximateNanos = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector(random);
+
+            long start = System.nanoTime();
+            Set<String> exact = exactTopK(vectors, query);
+            exactNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Set<String> approximate = graph.search(query, K, 100).stream()
+                .map(HnswGraph.Result::key)
+                .collect(Collectors.toSet());
+            approximateNanos += System.nanoTime() - start;
+
+            approximate.retainAll(exact);
+            recall += (double) approximate.size() / K;
+        }
+        recall /= queries;
+
+        System.out.printf("HNSW n=%d dims=%d: recall@%d=%.3f build=%dms exact=%.3fms/query hnsw=%.3fms/query%n",
+            size, DIMENSIONS, K, recall, buildMillis, exactNanos / 1e6 / queries, approximateNanos / 1e6 / queries);
+    }
+
+    @Test
+    void testDeletedNodesAreNeverReturned() {
+        Random random = new Random(1);
+        ArrayVectors storage = new ArrayVectors();
+        HnswGraph graph = new HnswGraph(storage, 8, 64, 3);
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            vectors.add(randomUnitVector(random));
+            graph.insert("job-" + i, storage.add(vectors.get(i)));
+        }
+        for (int i = 0; i < 500; i += 2) {
+            assertTrue(graph.remove("job-" + i));
+        }
+        assertFalse(graph.remove("job-0"));
+        assertEquals(250, graph.size());
+
+        List<HnswGraph.Result> results = graph.search(vectors.get(0), K, 50);
+        assertEquals(K, results.size());
+        results.forEach(result -> assertEquals(1, Integer.parseInt(result.key().substring(4)) % 2));
+
+        // Re-inserting a deleted key makes it searchable again
+        graph.insert("job-0", 0);
+        assertEquals("job-0", graph.search(vectors.get(0), 1, 50).get(0).key());
+    }
+
+    @Test
+    void testSnapshotRoundTrip() throws Exception {
+        Random random = new Random(2);
+        ArrayVectors storage = new ArrayVectors();
+        HnswGraph graph = new HnswGraph(storage, 8, 64, 5);
+        for (int i = 0; i < 300; i++) {
+            graph.insert("job-" + i, storage.add(randomUnitVector(random)));
+        }
+        graph.remove("job-7");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        graph.writeTo(new DataOutputStream(bytes));
+        HnswGraph restored = HnswGraph.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 5,
+            storage, key -> Integer.parseInt(key.substring(4)));
+
+        assertEquals(graph.size(), restored.size());
+        assertFalse(restored.contains("job-7"));
+        assertTrue(restored.isCurrent("job-8", 8));
+        // A slot that changed since the node was linked is reported stale
+        storage.set(8, randomUnitVector(random));
+        assertFalse(restored.isCurrent("job-8", 8));
+        float[] query = randomUnitVector(random);
+        assertEquals(graph.search(query, K, 50), restored.search(query, K, 50));
+    }
+
+    private static HnswGraph build(int size, List<float[]> vectors, Random random) {
+        ArrayVectors storage = new ArrayVectors();
+        HnswGraph graph = new HnswGraph(storage, 16, 200, 7);
+        for (int i = 0; i < size; i++) {
+            float[] vector = randomUnitVector(random);
+            vectors.add(vector);
+            graph.insert("job-" + i, storage.add(vector));
+        }
+        return graph;
+    }
+
+    private static double recall(HnswGraph graph, List<float[]> vectors, int queries, Random random) {
+        double recall = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector(random);
+            Set<String> approximate = graph.search(query, K, 100).stream()
+                .map(HnswGraph.Result::key)
+                .collect(Collectors.toSet());
+            approximate.retainAll(exactTopK(vectors, query));
+            recall += (double) approximate.size() / K;
+        }
+        return recall / queries;
+    }
+
+    private static Set<String> exactTopK(List<float[]> vectors, float[] query) {
+        TopK<Integer> best = new TopK<>(K, (a, b) -> Float.compare(
+            VectorOps.dot(vectors.get(a), 0, query, 0, DIMENSIONS),
+            VectorOps.dot(vectors.get(b), 0, query, 0, DIMENSIONS)));
+        for (int i = 0; i < vectors.size(); i++) {
+            best.offer(i);
+        }
+        Set<String> keys = new HashSet<>();
+        best.toSortedList().forEach(i -> keys.add("job-" + i));
+        return keys;
+    }
+
+    // Stands in for an EmbeddingStore matrix: vector i lives in slot i
+    private static final class ArrayVectors implements EmbeddingStore.SlotVectors {
+
+        private float[] array = new float[16 * DIMENSIONS];
+        private int count;
+
+        int add(float[] vector) {
+            if ((count + 1) * DIMENSIONS > array.length) {
+                array = Arrays.copyOf(array, array.length * 2);
+            }
+            set(count, vector);
+            return count++;
+        }
+
+        void set(int slot, float[] vector) {
+            System.arraycopy(vector, 0, array, slot * DIMENSIONS, DIMENSIONS);
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+
+        @Override
+        public float[] array() {
+            return array;
+        }
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return VectorOps.normalize(vector);
+    }
+}
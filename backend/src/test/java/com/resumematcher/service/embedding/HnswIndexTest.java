@@ -0,0 +1,83 @@
+package com.resumematcher.service.embedding;
+
+import com.resumematcher.model.Job;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @Test
+    void testTombstoneRebuildRunsInTheBackgroundAndKeepsLaterWrites() throws Exception {
+        EmbeddingStore store = new EmbeddingStore();
+        HnswIndex index = new HnswIndex(true, 8, 64, 50, 0.3, "");
+        ReflectionTestUtils.setField(index, "embeddingStore", store);
+        index.load();
+
+        Random random = new Random(4);
+        List<List<Double>> vectors = new ArrayList<>();
+        for (int i = 0; i < 240; i++) {
+            vectors.add(randomVector(random));
+        }
+        for (int i = 0; i < 200; i++) {
+            upsert(store, index, "job-" + i, vectors.get(i));
+        }
+        // Crosses the tombstone ratio, which hands the graph to the rebuild thread
+        for (int i = 0; i < 100; i++) {
+            store.remove("job-" + i);
+            index.remove("job-" + i);
+        }
+        // Writes that land while the rebuild runs are replayed onto the new graph before the swap
+        for (int i = 200; i < 240; i++) {
+            upsert(store, index, "job-" + i, vectors.get(i));
+        }
+
+        Set<?> rebuilding = (Set<?>) ReflectionTestUtils.getField(index, "rebuilding");
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!rebuilding.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(rebuilding.isEmpty(), "rebuild did not finish");
+
+        for (int i : new int[]{100, 150, 210, 239}) {
+            Map<String, Float> nearest = index.search(Map.of("minilm", normalized(vectors.get(i))), "Data", 1);
+            assertEquals(Set.of("job-" + i), nearest.keySet());
+        }
+        Map<String, Float> all = index.search(Map.of("minilm", normalized(vectors.get(0))), "Data", 240);
+        assertEquals(140, all.size());
+        all.keySet().forEach(jobId -> assertTrue(Integer.parseInt(jobId.substring(4)) >= 100, jobId));
+    }
+
+    private static void upsert(EmbeddingStore store, HnswIndex index, String id, List<Double> vector) {
+        Job job = new Job("Job text", List.of("Java"), "Data");
+        job.setId(id);
+        job.setJobEmbeddings(Map.of("minilm", vector));
+        store.upsert(job);
+        index.upsert(job);
+    }
+
+    private static List<Double> randomVector(Random random) {
+        List<Double> vector = new ArrayList<>(DIMENSIONS);
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector.add(random.nextGaussian());
+        }
+        return vector;
+    }
+
+    private static float[] normalized(List<Double> vector) {
+        float[] values = new float[vector.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = vector.get(i).floatValue();
+        }
+        return VectorOps.normalize(values);
+    }
+}
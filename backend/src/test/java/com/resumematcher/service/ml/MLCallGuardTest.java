@@ -0,0 +1,109 @@
+package com.resumematcher.service.ml;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MLCallGuardTest {
+
+    @Test
+    void testBulkLaneCannotTakeInteractiveCapacity() {
+        MLCallGuard guard = guard(2, 0);
+        Sinks.One<String> pending = Sinks.one();
+
+        // Two bulk calls hang and fill the bulk lane
+        guard.call(MLCallGuard.Lane.BULK, pending::asMono).subscribe();
+        guard.call(MLCallGuard.Lane.BULK, pending::asMono).subscribe();
+
+        assertThrows(MLServiceUnavailableException.class,
+            () -> guard.call(MLCallGuard.Lane.BULK, () -> Mono.just("bulk")).block());
+        assertEquals("interactive", guard.call(MLCallGuard.Lane.INTERACTIVE, () -> Mono.just("interactive")).block());
+
+        pending.tryEmitValue("done");
+        assertEquals("bulk", guard.call(MLCallGuard.Lane.BULK, () -> Mono.just("bulk")).block());
+    }
+
+    @Test
+    void testRetriesOverloadButNotClientErrors() {
+        MLCallGuard guard = guard(10, 2);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = guard.call(MLCallGuard.Lane.INTERACTIVE, () -> calls.incrementAndGet() < 3
+            ? Mono.error(error(503)) : Mono.just("ok")).block();
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+
+        calls.set(0);
+        assertThrows(WebClientResponseException.class, () -> guard.call(MLCallGuard.Lane.INTERACTIVE, () -> {
+            calls.incrementAndGet();
+            return Mono.<String>error(error(422));
+        }).block());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testCircuitOpensAndRecoversAfterTrialCalls() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, 1_000, 2, now::get);
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onSuccess();
+        }
+        for (int i = 0; i < 2; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        // Half-open lets exactly two trial calls through
+        now.addAndGet(1_000);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testLimitBacksOffOnDropsAndGrowsUnderLoad() {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, 0.5, Duration.ofSeconds(1).toNanos());
+        assertTrue(limiter.tryAcquire());
+        limiter.onDropped();
+        assertEquals(5, limiter.getLimit());
+
+        // A slow response counts as congestion too
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(Duration.ofSeconds(2).toNanos());
+        assertEquals(2, limiter.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(0);
+            limiter.onSuccess(0);
+        }
+        assertTrue(limiter.getLimit() > 2);
+    }
+
+    private static MLCallGuard guard(int bulkLimit, int maxRetries) {
+        return new MLCallGuard(10, 10, bulkLimit, bulkLimit, 1, 0.9, Duration.ofSeconds(5), Duration.ofSeconds(5),
+            20, 10, 0.5, Duration.ofSeconds(30), 3, maxRetries, Duration.ofMillis(1), Duration.ofMillis(5),
+            new SimpleMeterRegistry());
+    }
+
+    private static WebClientResponseException error(int status) {
+        return WebClientResponseException.create(status, "error", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
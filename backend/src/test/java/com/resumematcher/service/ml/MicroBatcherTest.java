@@ -0,0 +1,64 @@
+package com.resumematcher.service.ml;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    private final List<List<String>> sent = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testBatchesConcurrentRequestsAndCoalescesDuplicates() {
+        MicroBatcher<String, String> batcher = batcher(10, request -> new MLBatchResponse.Result<>(request.toUpperCase(), null));
+
+        List<String> results = Flux.just("a", "b", "a", "c")
+            .flatMapSequential(batcher::submit)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of("A", "B", "A", "C"), results);
+        assertEquals(List.of(List.of("a", "b", "c")), sent);
+    }
+
+    @Test
+    void testFullBatchIsSentWithoutWaiting() {
+        MicroBatcher<String, String> batcher = batcher(2, request -> new MLBatchResponse.Result<>(request, null));
+
+        Flux.just("a", "b", "c").flatMap(batcher::submit).blockLast(Duration.ofSeconds(5));
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), sent);
+    }
+
+    @Test
+    void testItemErrorsOnlyFailTheirOwnCaller() {
+        MicroBatcher<String, String> batcher = batcher(10, request -> request.equals("bad")
+            ? new MLBatchResponse.Result<>(null, "unreadable") : new MLBatchResponse.Result<>(request, null));
+
+        Mono<String> good = batcher.submit("good").cache();
+        Mono<String> bad = batcher.submit("bad").cache();
+        Mono.when(good.onErrorResume(e -> Mono.empty()), bad.onErrorResume(e -> Mono.empty())).block(Duration.ofSeconds(5));
+
+        assertEquals("good", good.block());
+        RuntimeException error = assertThrows(RuntimeException.class, bad::block);
+        assertTrue(error.getMessage().contains("unreadable"));
+    }
+
+    private MicroBatcher<String, String> batcher(int maxBatchSize,
+                                                 Function<String, MLBatchResponse.Result<String>> score) {
+        return new MicroBatcher<>(maxBatchSize, Duration.ofMillis(50), request -> request,
+            requests -> {
+                sent.add(requests);
+                return Mono.just(requests.stream().map(score).toList());
+            },
+            new SimpleMeterRegistry(), "evaluate", "interactive");
+    }
+}
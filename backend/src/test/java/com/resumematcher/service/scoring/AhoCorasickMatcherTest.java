@@ -0,0 +1,101 @@
+package com.resumematcher.service.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void testFindsOverlappingTermsInOnePass() {
+        Map<String, String> terms = new LinkedHashMap<>();
+        terms.put("Java", "Java");
+        terms.put("JavaScript", "JavaScript");
+        terms.put("Spring Boot", "Spring Boot");
+        terms.put("Boot", "Boot");
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(terms);
+
+        List<String> found = matcher.findAll("Built JavaScript UIs and SPRING   boot services in Java.");
+
+        assertEquals(List.of("JavaScript", "Spring Boot", "Boot", "Java"), found);
+    }
+
+    @Test
+    void testRespectsWordBoundariesAndAliases() {
+        Map<String, String> terms = new LinkedHashMap<>();
+        terms.put("R", "R");
+        terms.put("C++", "C++");
+        terms.put("Golang", "Go");
+        terms.put("Go", "Go");
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(terms);
+
+        assertTrue(matcher.findAll("Strong background in marketing, cargo and governance").isEmpty());
+        assertEquals(List.of("C++", "Go", "R"), matcher.findAll("C++, Golang and R (tidyverse)"));
+    }
+
+    @Test
+    void testLargeGeneratedDictionaryMatchesNaiveLookup() {
+        Random random = new Random(11);
+        Set<String> distinctWords = new LinkedHashSet<>();
+        while (distinctWords.size() < 60_000) {
+            distinctWords.add(word(random));
+        }
+        List<String> vocabulary = new ArrayList<>(distinctWords);
+
+        // Tens of thousands of single-word and two-word terms, keyed in mixed case
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String word : vocabulary.subList(0, 30_000)) {
+            terms.put(capitalize(word), capitalize(word));
+        }
+        while (terms.size() < 50_000) {
+            String phrase = capitalize(vocabulary.get(random.nextInt(vocabulary.size()))) + " "
+                + vocabulary.get(random.nextInt(vocabulary.size())).toUpperCase();
+            terms.put(phrase, phrase);
+        }
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(terms);
+        assertEquals(terms.size(), matcher.size());
+
+        Set<String> folded = new HashSet<>();
+        terms.keySet().forEach(term -> folded.add(term.toLowerCase(Locale.ROOT)));
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            words.add(vocabulary.get(random.nextInt(vocabulary.size())));
+        }
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < words.size(); i++) {
+            if (folded.contains(words.get(i))) {
+                expected.add(words.get(i));
+            }
+            if (i + 1 < words.size() && folded.contains(words.get(i) + " " + words.get(i + 1))) {
+                expected.add(words.get(i) + " " + words.get(i + 1));
+            }
+        }
+
+        Set<String> found = new HashSet<>();
+        matcher.findAll(String.join(" ", words)).forEach(term -> found.add(term.toLowerCase(Locale.ROOT)));
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, found);
+    }
+
+    private static String word(Random random) {
+        char[] letters = new char[2 + random.nextInt(6)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.resumematcher.service.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumematcher.service.ml.MLEvaluationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringEngineTest {
+
+    private ScoringEngine scoringEngine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SkillTaxonomy taxonomy = new SkillTaxonomy(new ClassPathResource("jobTaxonomy.json"), new ObjectMapper());
+        scoringEngine = new ScoringEngine(new SkillExtractor(taxonomy), 0.4, 0.3, 0.2, 0.1, 0.8, 0.6, 0.4, 5);
+    }
+
+    @Test
+    void testScoreMatchesMlServiceFormula() {
+        String resumeText = "Senior Software Engineer with 6 years of experience in Python, React and MongoDB.\n"
+            + "B.Sc. Computer Science, Stanford University";
+        String jobText = "Full Stack Developer: Python, React, MongoDB and Docker required.";
+
+        MLEvaluationResponse response = scoringEngine.score(resumeText, jobText, Map.of("minilm", 0.5, "sbert", 0.7), "xgboost");
+
+        assertEquals(0.75, response.skillMatchRatio(), 1e-9);
+        assertEquals(1.0, response.experienceMatchRatio(), 1e-9);
+        assertEquals(0.8, response.educationMatchRatio(), 1e-9);
+        // 0.4 * 0.7 + 0.3 * 0.75 + 0.2 * 1.0 + 0.1 * 0.8
+        assertEquals(0.785, response.finalScore(), 1e-9);
+        assertEquals("Good Match", response.recommendation());
+        assertEquals("xgboost", response.bestModelName());
+        assertTrue(response.matchedSkills().containsAll(List.of("Python", "React", "MongoDB")));
+        assertEquals(List.of("Docker"), response.missingSkills());
+        assertEquals(6, response.parsedEntities().experienceYears());
+        assertTrue(response.parsedEntities().jobTitles().contains("Senior Software Engineer"));
+    }
+
+    @Test
+    void testShortSkillsRequireWordBoundaries() {
+        assertFalse(scoringEngine.extractSkills("Strong background in marketing and governance").contains("R"));
+        assertFalse(scoringEngine.extractSkills("Strong background in marketing and governance").contains("Go"));
+        assertTrue(scoringEngine.extractSkills("Statistics in R, services in Go and C++").containsAll(
+            List.of("R", "Go", "C++")));
+    }
+
+    @Test
+    void testDegradedScoreWithoutSimilarity() {
+        MLEvaluationResponse response = scoringEngine.score("No relevant content", "Java developer", Map.of(), "rule-based");
+
+        assertEquals(0.0, response.skillMatchRatio(), 1e-9);
+        // Only the education fallback contributes: 0.1 * 0.3
+        assertEquals(0.03, response.finalScore(), 1e-9);
+        assertEquals("Poor Match", response.recommendation());
+    }
+}
@@ -0,0 +1,62 @@
+package com.resumematcher.service.search;
+
+import com.resumematcher.model.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSearchIndexTest {
+
+    @Test
+    void testTokenizerKeepsSkillPunctuation() {
+        assertEquals(List.of("senior", "c++", "c#", "node.js", "developer"),
+            Tokenizer.tokenize("Senior C++/C# and Node.js developer."));
+    }
+
+    @Test
+    void testBm25RanksTitleMatchesFirstAndFiltersByDomain() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.index(job("1", "Java Developer", "Build Spring services.", List.of("Java", "Spring"), "Backend"));
+        index.index(job("2", "Data Analyst", "Some Java scripting for reports.", List.of("SQL"), "Data"));
+        index.index(job("3", "Frontend Engineer", "React and TypeScript.", List.of("React"), "Frontend"));
+
+        JobSearchIndex.Result result = index.search("java", null, 0, 10);
+        assertEquals(2, result.total());
+        assertEquals(List.of("1", "2"), result.hits().stream().map(JobSearchIndex.Hit::jobId).toList());
+
+        assertEquals(List.of("2"), index.search("java", "Data", 0, 10).hits().stream()
+            .map(JobSearchIndex.Hit::jobId).toList());
+        assertEquals(0, index.search("kotlin", null, 0, 10).total());
+    }
+
+    @Test
+    void testPaginationUpdatesAndDeletes() {
+        JobSearchIndex index = new JobSearchIndex();
+        for (int i = 0; i < 3000; i++) {
+            index.index(job("job-" + i, "Python Engineer " + i, "Python work", List.of("Python"), "Data"));
+        }
+        JobSearchIndex.Result secondPage = index.search("python", null, 1, 25);
+        assertEquals(3000, secondPage.total());
+        assertEquals(25, secondPage.hits().size());
+        assertFalse(index.search("python", null, 0, 25).hits().contains(secondPage.hits().get(0)));
+
+        // Deleting most documents triggers posting compaction; survivors stay searchable
+        for (int i = 0; i < 2900; i++) {
+            index.remove("job-" + i);
+        }
+        index.index(job("job-2999", "Go Engineer", "Go work", List.of("Go"), "Backend"));
+        assertEquals(99, index.search("python", null, 0, 200).total());
+        assertEquals(List.of("job-2999"), index.search("go", null, 0, 10).hits().stream()
+            .map(JobSearchIndex.Hit::jobId).toList());
+        assertEquals(100, index.size());
+    }
+
+    private static Job job(String id, String title, String text, List<String> skills, String domain) {
+        Job job = new Job(text, skills, domain);
+        job.setId(id);
+        job.setTitle(title);
+        return job;
+    }
+}
@@ -1,6 +1,5 @@
 import React, { useState, useEffect } from 'react';
 import { BarChart3, Users, FileText, TrendingUp, Upload, Download, Briefcase } from 'lucide-react';
-import axios from 'axios';
 import toast from 'react-hot-toast';
 
 const Admin = () => {
@@ -18,25 +17,49 @@ const Admin = () => {
     fetchData();
   }, []);
 
+  // Reads an NDJSON stream line by line instead of waiting for one huge JSON array
+  const fetchNdjson = async (url) => {
+    const response = await fetch(url);
+    if (!response.ok) {
+      throw new Error(`Request failed with status ${response.status}`);
+    }
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    const items = [];
+    let buffer = '';
+    while (true) {
+      const { done, value } = await reader.read();
+      if (done) break;
+      buffer += decoder.decode(value, { stream: true });
+      const lines = buffer.split('\n');
+      buffer = lines.pop();
+      lines.filter((line) => line.trim()).forEach((line) => items.push(JSON.parse(line)));
+    }
+    if (buffer.trim()) {
+      items.push(JSON.parse(buffer));
+    }
+    return items;
+  };
+
   const fetchData = async () => {
     try {
-      const [resumesResponse, jobsResponse] = await Promise.all([
-        axios.get('/api/resumes'),
-        axios.get('/api/jobs')
+      const [resumesData, jobsData] = await Promise.all([
+        fetchNdjson('/api/resumes/summaries?format=ndjson'),
+        fetchNdjson('/api/jobs/summaries?format=ndjson')
       ]);
 
-      setResumes(resumesResponse.data);
-      setJobs(jobsResponse.data);
+      setResumes(resumesData);
+      setJobs(jobsData);
 
       // Calculate stats
-      const totalResumes = resumesResponse.data.length;
-      const totalJobs = jobsResponse.data.length;
+      const totalResumes = resumesData.length;
+      const totalJobs = jobsData.length;
       const avgScore = totalResumes > 0 
-        ? resumesResponse.data.reduce((sum, resume) => sum + (resume.evaluationResult?.finalScore || 0), 0) / totalResumes
+        ? resumesData.reduce((sum, resume) => sum + (resume.finalScore || 0), 0) / totalResumes
         : 0;
 
       // Domain distribution
-      const domainDistribution = resumesResponse.data.reduce((acc, resume) => {
+      const domainDistribution = resumesData.reduce((acc, resume) => {
         const domain = resume.domain || 'Unknown';
         acc[domain] = (acc[domain] || 0) + 1;
         return acc;
@@ -183,10 +206,10 @@ const Admin = () => {
                 </div>
                 <div className="text-right">
                   <p className="font-semibold text-gray-900">
-                    {Math.round((resume.evaluationResult?.finalScore || 0) * 100)}%
+                    {Math.round((resume.finalScore || 0) * 100)}%
                   </p>
                   <p className="text-sm text-gray-500">
-                    {resume.evaluationResult?.recommendation || 'N/A'}
+                    {resume.recommendation || 'N/A'}
                   </p>
                 </div>
               </div>
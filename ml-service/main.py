@@ -69,6 +69,15 @@ class EvaluationRequest(BaseModel):
     job_text: str
     domain: str = "Fullstack"
 
+class BatchItem(BaseModel):
+    resume_text: str
+    job_text: str
+    domain: str = "Fullstack"
+    job_embeddings: Optional[Dict[str, List[float]]] = None
+
+class BatchRequest(BaseModel):
+    items: List[BatchItem]
+
 class EvaluationResponse(BaseModel):
     parsed_entities: Dict[str, Any]
     similarity_scores: Dict[str, float]
@@ -214,14 +223,62 @@ def calculate_skill_match_ratio(resume_skills: List[str], job_skills: List[str])
     matched = sum(1 for skill in job_skills_lower if any(skill in rs for rs in resume_skills_lower))
     return matched / len(job_skills_lower)
 
-def calculate_similarity_scores(resume_text: str, job_text: str) -> Dict[str, float]:
+def parse_job_embeddings(job_embeddings: Optional[str]) -> Dict[str, np.ndarray]:
+    """Decode precomputed job embeddings sent as a JSON object of model name -> vector"""
+    if not job_embeddings:
+        return {}
+    try:
+        return {model_name: np.asarray(vector, dtype=np.float32)
+                for model_name, vector in json.loads(job_embeddings).items()}
+    except (ValueError, AttributeError, TypeError) as e:
+        logger.warning(f"Ignoring malformed job embeddings: {e}")
+        return {}
+
+def calculate_similarity_scores_batch(items: List[BatchItem]) -> List[Dict[str, float]]:
+    """Similarity scores for many resume/job pairs, encoding all texts of a model in one call"""
+    scores = [{} for _ in items]
+    if not items:
+        return scores
+    
+    for model_name, model in embedding_models.items():
+        try:
+            resume_embeddings = model.encode([item.resume_text for item in items])
+            
+            # Precomputed job vectors are used when their shape matches the model
+            job_embeddings = []
+            for item in items:
+                precomputed = (item.job_embeddings or {}).get(model_name)
+                usable = precomputed is not None and len(precomputed) == resume_embeddings.shape[1]
+                job_embeddings.append(np.asarray(precomputed, dtype=np.float32) if usable else None)
+            
+            # Batches usually share one job, so each distinct job text is encoded once
+            missing_jobs = list({item.job_text for item, vector in zip(items, job_embeddings) if vector is None})
+            encoded_jobs = dict(zip(missing_jobs, model.encode(missing_jobs))) if missing_jobs else {}
+            
+            for i, item in enumerate(items):
+                job_embedding = job_embeddings[i] if job_embeddings[i] is not None else encoded_jobs[item.job_text]
+                similarity = cosine_similarity(resume_embeddings[i].reshape(1, -1), job_embedding.reshape(1, -1))[0][0]
+                scores[i][model_name] = float(similarity)
+        except Exception as e:
+            logger.error(f"Error calculating batch similarity for {model_name}: {e}")
+            for item_scores in scores:
+                item_scores[model_name] = 0.0
+    
+    return scores
+
+def calculate_similarity_scores(resume_text: str, job_text: str,
+                                job_embeddings: Optional[Dict[str, np.ndarray]] = None) -> Dict[str, float]:
     """Calculate similarity scores using different embedding models"""
     scores = {}
+    job_embeddings = job_embeddings or {}
     
     for model_name in embedding_models.keys():
         try:
             resume_embedding = encode_text(resume_text, model_name)
-            job_embedding = encode_text(job_text, model_name)
+            # Precomputed job vectors skip the second encode; fall back if the model changed shape
+            job_embedding = job_embeddings.get(model_name)
+            if job_embedding is None or job_embedding.shape != resume_embedding.shape:
+                job_embedding = encode_text(job_text, model_name)
             
             # Reshape for cosine similarity
             resume_embedding = resume_embedding.reshape(1, -1)
@@ -301,6 +358,72 @@ def get_recommendation(score: float) -> str:
     else:
         return "Poor Match"
 
+def build_evaluation(resume_text: str, job_text: str, domain: str,
+                     similarity_scores: Dict[str, float]) -> EvaluationResponse:
+    """Rule-based scoring of one resume against one job, given its similarity scores"""
+    # Parse resume
+    parsed_entities = parse_resume(resume_text)
+    
+    # Extract job skills (simple keyword extraction)
+    job_skills = []
+    job_text_lower = job_text.lower()
+    skill_keywords = [
+        "python", "java", "javascript", "react", "angular", "vue", "node.js",
+        "spring boot", "django", "flask", "fastapi", "express", "mongodb",
+        "postgresql", "mysql", "redis", "docker", "kubernetes", "aws", "azure"
+    ]
+    
+    for skill in skill_keywords:
+        if skill in job_text_lower:
+            job_skills.append(skill.title())
+    
+    # Calculate match ratios
+    skill_match_ratio = calculate_skill_match_ratio(parsed_entities["skills"], job_skills)
+    
+    # Simple experience and education matching
+    experience_match_ratio = min(1.0, parsed_entities["experience_years"] / 5.0)  # Normalize to 5 years
+    education_match_ratio = 0.8 if parsed_entities["education"] else 0.3  # Simple binary match
+    
+    # Calculate final score
+    final_score = calculate_final_score(
+        similarity_scores, 
+        skill_match_ratio, 
+        experience_match_ratio, 
+        education_match_ratio
+    )
+    
+    # Determine best model
+    best_model_name = predict_best_model(domain, np.array([final_score]))
+    
+    # Get matched and missing skills
+    matched_skills = [skill for skill in job_skills if skill.lower() in [s.lower() for s in parsed_entities["skills"]]]
+    missing_skills = [skill for skill in job_skills if skill.lower() not in [s.lower() for s in parsed_entities["skills"]]]
+    
+    # Get recommendation
+    recommendation = get_recommendation(final_score)
+    
+    # Feature importances (simplified)
+    feature_importances = {
+        "cosine_similarity": CONFIG["weights"]["cosine_similarity"],
+        "skill_match": CONFIG["weights"]["skill_match"],
+        "experience_match": CONFIG["weights"]["experience_match"],
+        "education_match": CONFIG["weights"]["education_match"]
+    }
+    
+    return EvaluationResponse(
+        parsed_entities=parsed_entities,
+        similarity_scores=similarity_scores,
+        skill_match_ratio=skill_match_ratio,
+        experience_match_ratio=experience_match_ratio,
+        education_match_ratio=education_match_ratio,
+        final_score=final_score,
+        best_model_name=best_model_name,
+        matched_skills=matched_skills,
+        missing_skills=missing_skills,
+        recommendation=recommendation,
+        feature_importances=feature_importances
+    )
+
 @app.on_event("startup")
 async def startup_event():
     """Initialize models on startup"""
@@ -315,7 +438,8 @@ async def evaluate_resume(
     file: Optional[UploadFile] = File(None),
     resume_text: Optional[str] = Form(None),
     job_text: str = Form(...),
-    domain: str = Form("Fullstack")
+    domain: str = Form("Fullstack"),
+    job_embeddings: Optional[str] = Form(None)
 ):
     """Evaluate resume against job description"""
     try:
@@ -341,74 +465,76 @@ async def evaluate_resume(
         if not resume_text:
             raise HTTPException(status_code=400, detail="No resume text provided")
         
-        # Parse resume
-        parsed_entities = parse_resume(resume_text)
-        
         # Calculate similarity scores
-        similarity_scores = calculate_similarity_scores(resume_text, job_text)
-        
-        # Extract job skills (simple keyword extraction)
-        job_skills = []
-        job_text_lower = job_text.lower()
-        skill_keywords = [
-            "python", "java", "javascript", "react", "angular", "vue", "node.js",
-            "spring boot", "django", "flask", "fastapi", "express", "mongodb",
-            "postgresql", "mysql", "redis", "docker", "kubernetes", "aws", "azure"
-        ]
-        
-        for skill in skill_keywords:
-            if skill in job_text_lower:
-                job_skills.append(skill.title())
+        similarity_scores = calculate_similarity_scores(resume_text, job_text, parse_job_embeddings(job_embeddings))
         
-        # Calculate match ratios
-        skill_match_ratio = calculate_skill_match_ratio(parsed_entities["skills"], job_skills)
+        return build_evaluation(resume_text, job_text, domain, similarity_scores)
         
-        # Simple experience and education matching
-        experience_match_ratio = min(1.0, parsed_entities["experience_years"] / 5.0)  # Normalize to 5 years
-        education_match_ratio = 0.8 if parsed_entities["education"] else 0.3  # Simple binary match
-        
-        # Calculate final score
-        final_score = calculate_final_score(
-            similarity_scores, 
-            skill_match_ratio, 
-            experience_match_ratio, 
-            education_match_ratio
-        )
-        
-        # Determine best model
-        best_model_name = predict_best_model(domain, np.array([final_score]))
-        
-        # Get matched and missing skills
-        matched_skills = [skill for skill in job_skills if skill.lower() in [s.lower() for s in parsed_entities["skills"]]]
-        missing_skills = [skill for skill in job_skills if skill.lower() not in [s.lower() for s in parsed_entities["skills"]]]
-        
-        # Get recommendation
-        recommendation = get_recommendation(final_score)
+    except Exception as e:
+        logger.error(f"Error in evaluation: {e}")
+        raise HTTPException(status_code=500, detail=str(e))
+
+@app.post("/similarity")
+async def similarity(
+    resume_text: str = Form(...),
+    job_text: str = Form(...),
+    domain: str = Form("Fullstack"),
+    job_embeddings: Optional[str] = Form(None)
+):
+    """Embedding similarity only; rule-based scoring runs in the backend"""
+    try:
+        similarity_scores = calculate_similarity_scores(resume_text, job_text, parse_job_embeddings(job_embeddings))
+        best_similarity = max(similarity_scores.values()) if similarity_scores else 0.0
+        best_model_name = predict_best_model(domain, np.array([best_similarity]))
         
-        # Feature importances (simplified)
-        feature_importances = {
-            "cosine_similarity": CONFIG["weights"]["cosine_similarity"],
-            "skill_match": CONFIG["weights"]["skill_match"],
-            "experience_match": CONFIG["weights"]["experience_match"],
-            "education_match": CONFIG["weights"]["education_match"]
+        return {
+            "similarity_scores": similarity_scores,
+            "best_model_name": best_model_name
         }
         
-        return EvaluationResponse(
-            parsed_entities=parsed_entities,
-            similarity_scores=similarity_scores,
-            skill_match_ratio=skill_match_ratio,
-            experience_match_ratio=experience_match_ratio,
-            education_match_ratio=education_match_ratio,
-            final_score=final_score,
-            best_model_name=best_model_name,
-            matched_skills=matched_skills,
-            missing_skills=missing_skills,
-            recommendation=recommendation,
-            feature_importances=feature_importances
-        )
+    except Exception as e:
+        logger.error(f"Error calculating similarity: {e}")
+        raise HTTPException(status_code=500, detail=str(e))
+
+@app.post("/evaluate/batch")
+async def evaluate_batch(request: BatchRequest):
+    """Evaluate many resume/job pairs at once; results come back in request order, and a failed
+    item carries an error instead of failing the whole batch"""
+    similarity_scores = calculate_similarity_scores_batch(request.items)
+    results = []
+    for item, scores in zip(request.items, similarity_scores):
+        try:
+            results.append({"result": build_evaluation(item.resume_text, item.job_text, item.domain, scores)})
+        except Exception as e:
+            logger.error(f"Error in batch evaluation: {e}")
+            results.append({"error": str(e)})
+    return {"results": results}
+
+@app.post("/similarity/batch")
+async def similarity_batch(request: BatchRequest):
+    """Embedding similarity for many resume/job pairs at once, in request order"""
+    similarity_scores = calculate_similarity_scores_batch(request.items)
+    results = []
+    for item, scores in zip(request.items, similarity_scores):
+        best_similarity = max(scores.values()) if scores else 0.0
+        results.append({"result": {
+            "similarity_scores": scores,
+            "best_model_name": predict_best_model(item.domain, np.array([best_similarity]))
+        }})
+    return {"results": results}
+
+@app.post("/embed")
+async def embed(text: str = Form(...)):
+    """Encode text with every loaded embedding model"""
+    try:
+        embeddings = {}
+        for model_name in embedding_models.keys():
+            embeddings[model_name] = encode_text(text, model_name).astype(float).tolist()
+        
+        return {"embeddings": embeddings}
         
     except Exception as e:
-        logger.error(f"Error in evaluation: {e}")
+        logger.error(f"Error encoding text: {e}")
         raise HTTPException(status_code=500, detail=str(e))
 
 @app.post("/train")
@@ -1,6 +1,8 @@
 import pytest
 import asyncio
+import numpy as np
 from fastapi.testclient import TestClient
+import main
 from main import app
 import tempfile
 import os
@@ -81,6 +83,32 @@ def test_evaluate_with_file():
     finally:
         os.unlink(tmp_file_path)
 
+def test_similarity():
+    """Test embedding-only similarity endpoint"""
+    response = client.post(
+        "/similarity",
+        data={
+            "resume_text": "Software Engineer with 5 years of experience in Python, React, and MongoDB.",
+            "job_text": "We are looking for a Full Stack Developer with experience in Python, React, and MongoDB.",
+            "domain": "Fullstack"
+        }
+    )
+    assert response.status_code == 200
+    data = response.json()
+    assert "similarity_scores" in data
+    assert "best_model_name" in data
+    assert isinstance(data["similarity_scores"], dict)
+
+def test_embed():
+    """Test embedding endpoint"""
+    response = client.post("/embed", data={"text": "Senior Java developer with Spring Boot"})
+    assert response.status_code == 200
+    data = response.json()
+    assert "embeddings" in data
+    for vector in data["embeddings"].values():
+        assert isinstance(vector, list)
+        assert len(vector) > 0
+
 def test_train_models():
     """Test model training endpoint"""
     response = client.post("/train")
@@ -113,5 +141,81 @@ def test_evaluate_missing_job_text():
     )
     assert response.status_code == 422  # Validation error
 
+class FakeEmbeddingModel:
+    """Deterministic stand-in for a sentence transformer that records what it encodes"""
+    def __init__(self):
+        self.encoded = []
+
+    def encode(self, texts):
+        self.encoded.extend(texts)
+        return np.array([[1.0, 0.0] if "Python" in text else [0.0, 1.0] for text in texts])
+
+@pytest.fixture
+def fake_model(monkeypatch):
+    model = FakeEmbeddingModel()
+    monkeypatch.setattr(main, "embedding_models", {"fake": model})
+    return model
+
+def test_evaluate_batch_keeps_request_order(fake_model):
+    """Test batch evaluation returns one result per item in request order"""
+    response = client.post("/evaluate/batch", json={"items": [
+        {"resume_text": "Python developer", "job_text": "Python engineer", "domain": "Fullstack"},
+        {"resume_text": "Accountant", "job_text": "Python engineer", "domain": "Fullstack"},
+        {"resume_text": "Python and React developer", "job_text": "Python engineer", "domain": "Fullstack"}
+    ]})
+    assert response.status_code == 200
+    results = response.json()["results"]
+    assert len(results) == 3
+    assert [r["result"]["similarity_scores"]["fake"] for r in results] == pytest.approx([1.0, 0.0, 1.0])
+    # The shared job text is encoded once for the whole batch
+    assert fake_model.encoded.count("Python engineer") == 1
+
+def test_evaluate_batch_item_error_does_not_fail_batch(fake_model, monkeypatch):
+    """Test a failing item carries an error while the other items are scored"""
+    build_evaluation = main.build_evaluation
+
+    def failing_build_evaluation(resume_text, job_text, domain, similarity_scores):
+        if resume_text == "Unreadable":
+            raise ValueError("could not parse resume")
+        return build_evaluation(resume_text, job_text, domain, similarity_scores)
+
+    monkeypatch.setattr(main, "build_evaluation", failing_build_evaluation)
+    response = client.post("/evaluate/batch", json={"items": [
+        {"resume_text": "Python developer", "job_text": "Python engineer"},
+        {"resume_text": "Unreadable", "job_text": "Python engineer"},
+        {"resume_text": "Accountant", "job_text": "Python engineer"}
+    ]})
+    assert response.status_code == 200
+    results = response.json()["results"]
+    assert "result" in results[0] and "error" not in results[0]
+    assert results[1] == {"error": "could not parse resume"}
+    assert "result" in results[2]
+
+def test_evaluate_batch_uses_job_embeddings(fake_model):
+    """Test precomputed job vectors replace encoding the job text, unless their size differs"""
+    response = client.post("/evaluate/batch", json={"items": [
+        {"resume_text": "Python developer", "job_text": "Python engineer",
+         "job_embeddings": {"fake": [0.0, 1.0]}},
+        {"resume_text": "Python developer", "job_text": "Python lead",
+         "job_embeddings": {"fake": [0.0, 1.0, 0.0]}}
+    ]})
+    assert response.status_code == 200
+    results = response.json()["results"]
+    assert results[0]["result"]["similarity_scores"]["fake"] == pytest.approx(0.0)
+    assert results[1]["result"]["similarity_scores"]["fake"] == pytest.approx(1.0)
+    assert "Python engineer" not in fake_model.encoded
+    assert "Python lead" in fake_model.encoded
+
+def test_similarity_batch_keeps_request_order(fake_model):
+    """Test batch similarity returns one result per item in request order"""
+    response = client.post("/similarity/batch", json={"items": [
+        {"resume_text": "Accountant", "job_text": "Python engineer"},
+        {"resume_text": "Python developer", "job_text": "Python engineer"}
+    ]})
+    assert response.status_code == 200
+    results = response.json()["results"]
+    assert [r["result"]["similarity_scores"]["fake"] for r in results] == pytest.approx([0.0, 1.0])
+    assert all("best_model_name" in r["result"] for r in results)
+
 if __name__ == "__main__":
     pytest.main([__file__])
@@ -6,19 +6,27 @@ db.createCollection('resumes');
 db.createCollection('jobs');
 db.createCollection('models');
 db.createCollection('evaluations');
+db.createCollection('evaluation_tasks');
 
 // Create indexes for better performance
-db.resumes.createIndex({ "createdAt": -1 });
+// Keyset pages and NDJSON streams sort on (createdAt desc, _id desc), optionally within a domain
+db.resumes.createIndex({ "createdAt": -1, "_id": -1 });
+db.resumes.createIndex({ "domain": 1, "createdAt": -1, "_id": -1 });
 db.resumes.createIndex({ "domain": 1 });
 db.resumes.createIndex({ "evaluationResult.finalScore": -1 });
+db.resumes.createIndex({ "domain": 1, "evaluationResult.finalScore": -1, "_id": -1 });
+db.resumes.createIndex({ "jobId": 1, "evaluationResult.finalScore": -1, "_id": -1 });
 
 db.jobs.createIndex({ "domain": 1 });
 db.jobs.createIndex({ "title": "text", "jobText": "text" });
-db.jobs.createIndex({ "createdAt": -1 });
+db.jobs.createIndex({ "createdAt": -1, "_id": -1 });
+db.jobs.createIndex({ "domain": 1, "createdAt": -1, "_id": -1 });
 
 db.evaluations.createIndex({ "resumeId": 1 });
 db.evaluations.createIndex({ "createdAt": -1 });
 
+db.evaluation_tasks.createIndex({ "status": 1 });
+
 // Insert sample job data
 db.jobs.insertMany([
   {